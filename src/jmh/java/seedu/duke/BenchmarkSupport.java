@@ -0,0 +1,67 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Shared fixtures for benchmarks: scratch directories and a UI that prints nothing,
+ * so that console output does not dominate the measurements.
+ */
+public class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * @return A TextUI that discards everything printed to it
+     */
+    public static TextUI silentUi() {
+        return new TextUI() {
+            @Override
+            public void print(String str) {
+            }
+        };
+    }
+
+    /**
+     * Creates an empty scratch directory for storage files.
+     *
+     * @return The new directory
+     * @throws IOException If the directory cannot be created
+     */
+    public static File createScratchDirectory() throws IOException {
+        return Files.createTempDirectory("moneytrail-bench").toFile();
+    }
+
+    /**
+     * Deletes a scratch directory and everything in it.
+     *
+     * @param directory Directory created by {@link #createScratchDirectory()}
+     * @throws IOException If the directory cannot be walked
+     */
+    public static void deleteScratchDirectory(File directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Builds a MoneyList over scratch storage holding a generated ledger.
+     *
+     * @param directory Scratch directory for the storage files
+     * @param size Number of entries
+     * @return The populated MoneyList
+     */
+    public static MoneyList createMoneyList(File directory, int size) {
+        MoneyList moneyList = new MoneyList(new MTLogger(MoneyList.class.getName()),
+                new Storage(directory, true), silentUi());
+        for (Entry entry : LedgerGenerator.generateEntries(size, LedgerGenerator.DEFAULT_SEED)) {
+            moneyList.addEntry(entry);
+        }
+        return moneyList;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.duke;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates synthetic ledgers of a given size for benchmarks.
+ * The same size and seed always give the same ledger, so runs can be compared.
+ */
+public class LedgerGenerator {
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final String[] DESCRIPTIONS = {
+        "Lunch", "Dinner", "Coffee", "Groceries", "Bus fare", "Taxi", "Movie tickets",
+        "Phone bill", "Electricity", "Rent", "Textbooks", "Gym membership", "Snacks", "Concert"
+    };
+    private static final String[] CATEGORIES = {
+        "Food", "Transport", "Entertainment", "Utilities", "Housing", "Education", "Health"
+    };
+    private static final String[] INCOME_DESCRIPTIONS = {"Salary", "Allowance", "Freelance", "Refund"};
+    // Roughly one entry in ten is an income
+    private static final int INCOME_RATIO = 10;
+    private static final int MAX_AMOUNT_CENTS = 50_000;
+    private static final int DAYS_IN_YEAR = 365;
+    private static final int FIRST_YEAR = 2020;
+    private static final int YEARS = 5;
+
+    private LedgerGenerator() {
+    }
+
+    /**
+     * Generates a ledger of parsed entries.
+     *
+     * @param size Number of entries
+     * @param seed Random seed
+     * @return Generated entries in list order
+     */
+    public static ArrayList<Entry> generateEntries(int size, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(nextEntry(random, i));
+        }
+        return entries;
+    }
+
+    /**
+     * Generates a ledger in the line format written to the storage file.
+     *
+     * @param size Number of entries
+     * @param seed Random seed
+     * @return Generated entry strings in list order
+     */
+    public static ArrayList<String> generateLines(int size, long seed) {
+        ArrayList<String> lines = new ArrayList<>(size);
+        for (Entry entry : generateEntries(size, seed)) {
+            lines.add(entry.toString());
+        }
+        return lines;
+    }
+
+    private static Entry nextEntry(Random random, int index) {
+        long amountCents = 1 + random.nextInt(MAX_AMOUNT_CENTS);
+        String date = nextDate(random);
+        if (random.nextInt(INCOME_RATIO) == 0) {
+            String description = INCOME_DESCRIPTIONS[random.nextInt(INCOME_DESCRIPTIONS.length)];
+            return Income.ofCents(description, amountCents * INCOME_RATIO, date);
+        }
+        // The index keeps descriptions varied enough for the keyword index to have a real vocabulary
+        String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)] + " " + (index % 1000);
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        return Expense.ofCents(description, amountCents, category, date);
+    }
+
+    private static String nextDate(Random random) {
+        int dayOfYear = random.nextInt(DAYS_IN_YEAR);
+        int month = Math.min(dayOfYear / 30, 11) + 1;
+        int day = dayOfYear % 28 + 1;
+        int year = FIRST_YEAR + random.nextInt(YEARS);
+        return year + "-" + (month < 10 ? "0" : "") + month + "-" + (day < 10 ? "0" : "") + day;
+    }
+}
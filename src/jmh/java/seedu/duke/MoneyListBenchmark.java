@@ -0,0 +1,80 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the MoneyList operations that run on every command,
+ * over generated ledgers of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ledgerSize;
+
+    private File directory;
+    private MoneyList moneyList;
+
+    /**
+     * Builds a fresh ledger for each iteration so that added entries do not accumulate.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = BenchmarkSupport.createScratchDirectory();
+        moneyList = BenchmarkSupport.createMoneyList(directory, ledgerSize);
+    }
+
+    /**
+     * Removes the scratch storage files.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        BenchmarkSupport.deleteScratchDirectory(directory);
+    }
+
+    /**
+     * Adds and persists one expense.
+     */
+    @Benchmark
+    public void addExpense() throws MTException {
+        moneyList.addExpense("addExp Lunch $/12.50 c/Food d/2024-03-01");
+    }
+
+    /**
+     * Finds a keyword that appears in a share of the ledger.
+     */
+    @Benchmark
+    public void findEntry() throws MTException {
+        moneyList.findEntry("coffee 7");
+    }
+
+    /**
+     * Reads the expense total of one category.
+     */
+    @Benchmark
+    public double getTotalExpenseValue() {
+        return moneyList.getTotalExpenseValue("Transport");
+    }
+
+    /**
+     * Lists the distinct expense categories.
+     */
+    @Benchmark
+    public void listCats() {
+        moneyList.listCats();
+    }
+}
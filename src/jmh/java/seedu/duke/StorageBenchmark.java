@@ -0,0 +1,87 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks saving and loading whole ledgers of increasing size.
+ * Only the binary snapshot is saved; the text format is still loaded, as left by older versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ledgerSize;
+
+    private File directory;
+    private File binaryDirectory;
+    private Storage storage;
+    private Storage binaryStorage;
+    private ArrayList<Entry> entries;
+
+    /**
+     * Generates the ledger and writes it once in each format so that there is something to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, MTException {
+        directory = BenchmarkSupport.createScratchDirectory();
+        storage = new Storage(directory, true);
+        ArrayList<String> lines = LedgerGenerator.generateLines(ledgerSize, LedgerGenerator.DEFAULT_SEED);
+        Files.write(new File(directory, "mt.txt").toPath(), lines, StandardCharsets.UTF_8);
+
+        binaryDirectory = BenchmarkSupport.createScratchDirectory();
+        binaryStorage = new Storage(binaryDirectory, true);
+        entries = LedgerGenerator.generateEntries(ledgerSize, LedgerGenerator.DEFAULT_SEED);
+        binaryStorage.saveLedger(entries);
+    }
+
+    /**
+     * Removes the scratch storage files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkSupport.deleteScratchDirectory(directory);
+        BenchmarkSupport.deleteScratchDirectory(binaryDirectory);
+    }
+
+    /**
+     * Reads and parses the older text ledger file into entries.
+     */
+    @Benchmark
+    public List<Entry> loadLedger() throws MTException {
+        return storage.openLedger().load();
+    }
+
+    /**
+     * Rewrites the whole ledger as a binary snapshot.
+     */
+    @Benchmark
+    public void saveLedgerBinary() throws MTException {
+        binaryStorage.saveLedger(entries);
+    }
+
+    /**
+     * Reads the binary snapshot into entries.
+     */
+    @Benchmark
+    public List<Entry> loadLedgerBinary() throws MTException {
+        return binaryStorage.openLedger().load();
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Writes log records to a file on a background thread.
+ * Logging threads only put records on a bounded queue, so they never wait on file I/O;
+ * if the queue is full the record is dropped and counted instead.
+ * The writer thread takes records off in batches, flushes once per batch and
+ * rotates the file once it grows past a size limit.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long FLUSH_TIMEOUT_MILLIS = 2000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    // Queued by close() to tell the writer thread to finish
+    private static final LogRecord END_OF_LOG = new LogRecord(Level.OFF, "");
+
+    private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object progressLock = new Object();
+    private final Path logFile;
+    private final long maxFileBytes;
+    private final int backupCount;
+    private final Thread writerThread;
+    private long writtenCount;
+    private volatile boolean isClosed;
+
+    // Only touched by the writer thread
+    private Writer writer;
+    private long fileBytes;
+
+    /**
+     * Creates the handler and starts its writer thread.
+     *
+     * @param logFile File to append records to
+     * @param maxFileBytes Size after which the file is rotated
+     * @param backupCount Number of rotated files to keep, named logFile.1 (newest) to logFile.backupCount
+     */
+    public AsyncLogHandler(Path logFile, long maxFileBytes, int backupCount) {
+        this.logFile = logFile;
+        this.maxFileBytes = maxFileBytes;
+        this.backupCount = backupCount;
+        setFormatter(new SimpleFormatter());
+        writerThread = new Thread(this::writeRecords, "mt-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a record for the writer thread without waiting for any I/O.
+     *
+     * @param record The record to log
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (isClosed) {
+            return;
+        }
+        // Work out the caller now, while still on the logging thread
+        record.getSourceClassName();
+        if (queue.offer(record)) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits, for a bounded time, until the records queued so far have been written.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (progressLock) {
+            long remaining = FLUSH_TIMEOUT_MILLIS;
+            while (writtenCount < target && remaining > 0 && writerThread.isAlive()) {
+                try {
+                    progressLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Writes out every queued record, then stops the writer thread.
+     * Records published afterwards are ignored. Calling this more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        synchronized (progressLock) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        try {
+            queue.put(END_OF_LOG);
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Number of records dropped so far because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Main loop of the writer thread.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        boolean isEnding = false;
+        while (!isEnding) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            isEnding = batch.remove(END_OF_LOG);
+            writeBatch(batch);
+            synchronized (progressLock) {
+                writtenCount += batch.size();
+                progressLock.notifyAll();
+            }
+            batch.clear();
+        }
+        closeWriter();
+    }
+
+    /**
+     * Formats and writes a batch of records with a single flush, rotating the file if it has grown too large.
+     *
+     * @param batch Records to write
+     */
+    private void writeBatch(List<LogRecord> batch) {
+        try {
+            openWriterIfNeeded();
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                LogRecord notice = new LogRecord(Level.WARNING,
+                        dropped + " log records dropped because the log queue was full");
+                notice.setSourceClassName(AsyncLogHandler.class.getName());
+                write(notice);
+            }
+            for (LogRecord record : batch) {
+                write(record);
+            }
+            writer.flush();
+            if (fileBytes >= maxFileBytes) {
+                rotate();
+            }
+        } catch (IOException e) {
+            reportError("Failed to write log records", e, ErrorManager.WRITE_FAILURE);
+            closeWriter();
+        }
+    }
+
+    private void write(LogRecord record) throws IOException {
+        String text;
+        try {
+            text = getFormatter().format(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to format log record", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        writer.write(text);
+        // Log text is almost entirely ASCII, so characters are a close enough measure of bytes
+        fileBytes += text.length();
+    }
+
+    private void openWriterIfNeeded() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        fileBytes = Files.exists(logFile) ? Files.size(logFile) : 0;
+        writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Shifts logFile.1 .. logFile.(n-1) up by one, dropping the oldest, and moves the current file to logFile.1.
+     * The next batch starts a new file.
+     */
+    private void rotate() throws IOException {
+        closeWriter();
+        if (backupCount <= 0) {
+            Files.deleteIfExists(logFile);
+            return;
+        }
+        Files.deleteIfExists(backupPath(backupCount));
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backup = backupPath(i);
+            if (Files.exists(backup)) {
+                Files.move(backup, backupPath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(logFile, backupPath(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path backupPath(int generation) {
+        return logFile.resolveSibling(logFile.getFileName() + "." + generation);
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError("Failed to close log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+        writer = null;
+    }
+}
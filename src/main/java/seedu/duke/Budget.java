@@ -7,7 +7,7 @@ public class Budget {
     public static final String OVERALL = "Overall";
 
     private final String category;
-    private double amount;
+    private long amountCents;
 
     /**
      * Constructs a new Budget object.
@@ -22,7 +22,21 @@ public class Budget {
         }
         this.category = (category == null || category.trim().isEmpty())
                 ? "Uncategorized" : category.trim().toLowerCase();
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
+    }
+
+    /**
+     * Constructs a budget from an amount already held in cents.
+     *
+     * @param category    The category for this budget
+     * @param amountCents The budget amount in cents (must be ≥ 0)
+     * @return The new Budget
+     * @throws MTException If the amount is negative
+     */
+    public static Budget ofCents(String category, long amountCents) throws MTException {
+        Budget budget = new Budget(category, 0);
+        budget.setAmountCents(amountCents);
+        return budget;
     }
 
     public String getCategory() {
@@ -30,21 +44,35 @@ public class Budget {
     }
 
     public double getAmount() {
-        return amount;
+        return Money.toDollars(amountCents);
+    }
+
+    public long getAmountCents() {
+        return amountCents;
     }
 
     public void setAmount(double amount) throws MTException {
         if (amount < 0) {
             throw new MTException("Category amount cannot be negative.");
         }
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
+    }
+
+    public void setAmountCents(long amountCents) throws MTException {
+        if (amountCents < 0) {
+            throw new MTException("Category amount cannot be negative.");
+        }
+        this.amountCents = amountCents;
     }
 
     @Override
     public String toString() {
+        StringBuilder builder = new StringBuilder(48);
         if (category.equalsIgnoreCase("Overall")) {
-            return String.format("Overall Budget: $%.2f", amount);
+            builder.append("Overall Budget: $");
+        } else {
+            builder.append("Budget for ").append(category).append(": $");
         }
-        return String.format("Budget for %s: $%.2f", category, amount);
+        return Money.appendTo(builder, amountCents).toString();
     }
 }
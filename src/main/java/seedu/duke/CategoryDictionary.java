@@ -0,0 +1,85 @@
+package seedu.duke;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Gives expense categories small int ids, so that totals, budgets and category listings
+ * compare and index ints instead of comparing category strings ignoring case.
+ * Every spelling that is equal ignoring case, such as "Food" and "food", maps to the same id,
+ * while entries keep their own spelling so that they print as they were entered.
+ * Ids are handed out in the order categories are first seen and are never reused.
+ * A MoneyList owns one dictionary and passes it to the indexes and totals that need ids, which,
+ * like the rest of the list, are only used from the thread that runs the commands.
+ */
+public class CategoryDictionary {
+    /** Returned by {@link #findCategoryId(String)} for a category that no entry has used. */
+    public static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // spelling -> category id; usually hit with the very string an entry holds, so its hash is cached
+    private final HashMap<String, Integer> idsBySpelling = new HashMap<>();
+    // lower-case category -> category id
+    private final HashMap<String, Integer> idsByLowerCase = new HashMap<>();
+    // Indexed by category id: the category as first spelled by an entry
+    private String[] categoryNames = new String[INITIAL_CAPACITY];
+    private int categoryCount;
+
+    /**
+     * Returns the category id of a category, adding it to the dictionary if it is new.
+     *
+     * @param spelling Category as written in an entry, in any case
+     * @return The category id
+     */
+    public int categoryIdOf(String spelling) {
+        Integer id = idsBySpelling.get(spelling);
+        return id != null ? id : add(spelling);
+    }
+
+    /**
+     * Looks up a category without adding it.
+     *
+     * @param category Category in any case
+     * @return The category id, or {@link #NONE} if no entry has used the category
+     */
+    public int findCategoryId(String category) {
+        Integer id = idsBySpelling.get(category);
+        if (id == null) {
+            id = idsByLowerCase.get(category.toLowerCase(Locale.ROOT));
+        }
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * @param categoryId Id returned by {@link #categoryIdOf(String)} or {@link #findCategoryId(String)}
+     * @return The category as first spelled by an entry
+     */
+    public String nameOf(int categoryId) {
+        return categoryNames[categoryId];
+    }
+
+    /**
+     * @param categoryId Id returned by {@link #categoryIdOf(String)} or {@link #findCategoryId(String)}
+     * @return The category in lower case
+     */
+    public String lowerCaseNameOf(int categoryId) {
+        return categoryNames[categoryId].toLowerCase(Locale.ROOT);
+    }
+
+    private int add(String spelling) {
+        String lowerCase = spelling.toLowerCase(Locale.ROOT);
+        Integer categoryId = idsByLowerCase.get(lowerCase);
+        if (categoryId == null) {
+            categoryId = categoryCount++;
+            if (categoryId == categoryNames.length) {
+                categoryNames = Arrays.copyOf(categoryNames, categoryId * 2);
+            }
+            categoryNames[categoryId] = spelling;
+            idsByLowerCase.put(lowerCase, categoryId);
+        }
+        idsBySpelling.put(spelling, categoryId);
+        return categoryId;
+    }
+}
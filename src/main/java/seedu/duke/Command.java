@@ -21,12 +21,68 @@ public interface Command {
 
 //@@author EdwinTun98
 /**
- * Lists all entries in the MoneyList.
+ * Lists all entries in the MoneyList, or only those dated within a range.
  */
 class ListCommand implements Command {
+    private final DateRange range;
+
+    public ListCommand() {
+        this(null);
+    }
+
+    public ListCommand(DateRange range) {
+        this.range = range;
+    }
+
     @Override
     public void execute(MoneyList moneyList) throws MTException {
-        moneyList.listSummary();
+        if (range == null) {
+            moneyList.listSummary();
+        } else {
+            moneyList.listSummary(range);
+        }
+    }
+
+    @Override
+    public boolean shouldExit() {
+        return false;
+    }
+}
+
+/**
+ * Command to list one page, or the last few, of the entries.
+ */
+class ListWindowCommand implements Command {
+    private final ListWindow window;
+
+    public ListWindowCommand(ListWindow window) {
+        this.window = window;
+    }
+
+    @Override
+    public void execute(MoneyList moneyList) throws MTException {
+        moneyList.listSummary(window);
+    }
+
+    @Override
+    public boolean shouldExit() {
+        return false;
+    }
+}
+
+/**
+ * Command to write the full numbered list of entries to a file instead of the screen.
+ */
+class ListToFileCommand implements Command {
+    private final String fileName;
+
+    public ListToFileCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void execute(MoneyList moneyList) throws MTException {
+        moneyList.listSummaryToFile(fileName);
     }
 
     @Override
@@ -115,9 +171,14 @@ class TotalExpenseCommand implements Command {
  * Sets the total budget amount.
  */
 class BudgetCommand implements Command {
-    private final double budget;
+    // The amount as the user typed it, so it is rounded to cents only once
+    private final String budget;
 
     public BudgetCommand(double budget) {
+        this(Money.toText(budget));
+    }
+
+    public BudgetCommand(String budget) {
         this.budget = budget;
     }
 
@@ -138,11 +199,15 @@ class BudgetCommand implements Command {
  */
 class AddExpenseCommand implements Command {
     private final String description;
-    private final double amount;
+    private final String amount;
     private final String category;
     private final String date;
 
     public AddExpenseCommand(String description, double amount, String category, String date) {
+        this(description, Money.toText(amount), category, date);
+    }
+
+    public AddExpenseCommand(String description, String amount, String category, String date) {
         this.description = description;
         this.amount = amount;
         this.category = category;
@@ -178,10 +243,14 @@ class AddExpenseCommand implements Command {
  */
 class AddIncomeCommand implements Command {
     private final String description;
-    private final double amount;
+    private final String amount;
     private final String date;
 
     public AddIncomeCommand(String description, double amount, String date) {
+        this(description, Money.toText(amount), date);
+    }
+
+    public AddIncomeCommand(String description, String amount, String date) {
         this.description = description;
         this.amount = amount;
         this.date = date;
@@ -213,12 +282,18 @@ class AddIncomeCommand implements Command {
 class EditExpenseCommand implements Command {
     private final int index;
     private final String newDescription;
-    private final double newAmount;
+    // Null to keep the old amount
+    private final String newAmount;
     private final String newCategory;
     private final String newDate;
 
     public EditExpenseCommand(int index, String newDescription, double newAmount,
                               String newCategory, String newDate) {
+        this(index, newDescription, Money.toText(newAmount), newCategory, newDate);
+    }
+
+    public EditExpenseCommand(int index, String newDescription, String newAmount,
+                              String newCategory, String newDate) {
         this.index = index;
         this.newDescription = newDescription;
         this.newAmount = newAmount;
@@ -228,7 +303,13 @@ class EditExpenseCommand implements Command {
 
     @Override
     public void execute(MoneyList moneyList) throws MTException {
-        moneyList.editExpense(index, newDescription, newAmount, newCategory, newDate);
+        long newAmountCents;
+        try {
+            newAmountCents = newAmount == null ? 0 : Money.parseCents(newAmount);
+        } catch (NumberFormatException error) {
+            throw new MTException("Invalid number format in edit command");
+        }
+        moneyList.editExpense(index, newDescription, newAmountCents, newCategory, newDate);
     }
 
     @Override
@@ -242,9 +323,13 @@ class EditExpenseCommand implements Command {
  */
 class SetCategoryBudgetCommand implements Command {
     private final String category;
-    private final double amount;
+    private final String amount;
 
     public SetCategoryBudgetCommand(String category, double amount) {
+        this(category, Money.toText(amount));
+    }
+
+    public SetCategoryBudgetCommand(String category, String amount) {
         this.category = category;
         this.amount = amount;
     }
@@ -261,18 +346,29 @@ class SetCategoryBudgetCommand implements Command {
 }
 
 /**
- * Command to check budget usage for a specific category or the overall budget.
+ * Command to check budget usage for a specific category or the overall budget,
+ * optionally counting only the expenses dated within a range.
  */
 class CheckExpensesCommand implements Command {
     private final String category;
+    private final DateRange range;
 
     public CheckExpensesCommand(String category) {
+        this(category, null);
+    }
+
+    public CheckExpensesCommand(String category, DateRange range) {
         this.category = category;
+        this.range = range;
     }
 
     @Override
     public void execute(MoneyList moneyList) throws MTException {
-        moneyList.checkExpenses(category);
+        if (range == null) {
+            moneyList.checkExpenses(category);
+        } else {
+            moneyList.checkExpenses(category, range);
+        }
     }
 
     @Override
@@ -343,3 +439,39 @@ class ClearListCommand implements Command {
     }
 }
 //@@author
+
+/**
+ * Exports all entries to a readable text file.
+ */
+class ExportCommand implements Command {
+    private final String fileName;
+
+    public ExportCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void execute(MoneyList moneyList) throws MTException {
+        moneyList.exportEntries(fileName);
+    }
+
+    @Override
+    public boolean shouldExit() {
+        return false;
+    }
+}
+
+/**
+ * Prints expense totals by month and category.
+ */
+class SummaryCommand implements Command {
+    @Override
+    public void execute(MoneyList moneyList) throws MTException {
+        moneyList.printSummary();
+    }
+
+    @Override
+    public boolean shouldExit() {
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.duke;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Keeps entries with a "yyyy-MM-dd" date sorted by day, so that the entries of a period are found
+ * by visiting only the days in it rather than every entry.
+ * Entries whose date is free text or "no date" are not indexed and never fall in a range.
+ */
+public class DateIndex {
+    // epoch day -> entries dated that day, in the order they were added
+    private final TreeMap<Integer, ArrayList<Entry>> entriesByDay = new TreeMap<>();
+    private final CategoryDictionary categories;
+
+    /**
+     * @param categories Dictionary giving the category ids that sums by category are asked for
+     */
+    public DateIndex(CategoryDictionary categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * Adds an entry under its day, if it has one.
+     *
+     * @param entry The entry to index
+     */
+    public void add(Entry entry) {
+        if (entry.getEpochDay() == EpochDays.NONE) {
+            return;
+        }
+        entriesByDay.computeIfAbsent(entry.getEpochDay(), day -> new ArrayList<>()).add(entry);
+    }
+
+    /**
+     * Removes an entry that was previously added.
+     *
+     * @param entry The entry to remove
+     */
+    public void remove(Entry entry) {
+        ArrayList<Entry> entries = entriesByDay.get(entry.getEpochDay());
+        if (entries == null) {
+            return;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == entry) {
+                entries.remove(i);
+                break;
+            }
+        }
+        if (entries.isEmpty()) {
+            entriesByDay.remove(entry.getEpochDay());
+        }
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        entriesByDay.clear();
+    }
+
+    /**
+     * Finds the entries dated within a range.
+     *
+     * @param range Inclusive range of days
+     * @return Matching entries in date order
+     */
+    public List<Entry> find(DateRange range) {
+        List<Entry> results = new ArrayList<>();
+        for (ArrayList<Entry> entries : entriesByDay.subMap(range.fromDay(), true, range.toDay(), true).values()) {
+            results.addAll(entries);
+        }
+        return results;
+    }
+
+    /**
+     * Sums the expenses dated within a range.
+     *
+     * @param range Inclusive range of days
+     * @return Total amount in cents
+     */
+    public long sumExpenseCents(DateRange range) {
+        long total = 0;
+        for (ArrayList<Entry> entries : entriesByDay.subMap(range.fromDay(), true, range.toDay(), true).values()) {
+            for (Entry entry : entries) {
+                if (entry instanceof Expense expense) {
+                    total += expense.getAmountCents();
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sums the expenses of one category dated within a range.
+     *
+     * @param range Inclusive range of days
+     * @param categoryId Category id from the dictionary this index was given
+     * @return Total amount in cents
+     */
+    public long sumExpenseCents(DateRange range, int categoryId) {
+        long total = 0;
+        for (ArrayList<Entry> entries : entriesByDay.subMap(range.fromDay(), true, range.toDay(), true).values()) {
+            for (Entry entry : entries) {
+                if (entry instanceof Expense expense && categories.categoryIdOf(expense.getCategory()) == categoryId) {
+                    total += expense.getAmountCents();
+                }
+            }
+        }
+        return total;
+    }
+}
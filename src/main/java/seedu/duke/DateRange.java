@@ -0,0 +1,82 @@
+package seedu.duke;
+
+/**
+ * An inclusive range of days given by the "from/yyyy-MM-dd" and "to/yyyy-MM-dd" options of a command.
+ * Either bound may be left out, in which case the range is open on that side.
+ *
+ * @param fromDay First day in the range, or {@link Integer#MIN_VALUE} if unbounded
+ * @param toDay Last day in the range, or {@link Integer#MAX_VALUE} if unbounded
+ */
+public record DateRange(int fromDay, int toDay) {
+    private static final String FROM_PREFIX = "from/";
+    private static final String TO_PREFIX = "to/";
+    private static final String USAGE = "Use: from/<yyyy-MM-dd> to/<yyyy-MM-dd>";
+
+    /**
+     * Finds where the date options of a command begin, i.e. the first word starting with "from/" or "to/".
+     *
+     * @param text Command arguments
+     * @return Index of the first date option, or the length of the text if there is none
+     */
+    public static int optionsStart(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            boolean isWordStart = i == 0 || Character.isWhitespace(text.charAt(i - 1));
+            if (isWordStart && (text.startsWith(FROM_PREFIX, i) || text.startsWith(TO_PREFIX, i))) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * Parses date options such as "from/2025-03-01 to/2025-03-31".
+     *
+     * @param options Whitespace-separated options, each either "from/" or "to/" followed by a date
+     * @return The range the options describe
+     * @throws MTException If an option is unknown or repeated, a date is invalid, or the range is empty
+     */
+    public static DateRange parse(String options) throws MTException {
+        int fromDay = Integer.MIN_VALUE;
+        int toDay = Integer.MAX_VALUE;
+        boolean hasFrom = false;
+        boolean hasTo = false;
+        for (String option : options.trim().split("\\s+")) {
+            if (option.startsWith(FROM_PREFIX) && !hasFrom) {
+                fromDay = parseDay(option.substring(FROM_PREFIX.length()));
+                hasFrom = true;
+            } else if (option.startsWith(TO_PREFIX) && !hasTo) {
+                toDay = parseDay(option.substring(TO_PREFIX.length()));
+                hasTo = true;
+            } else {
+                throw new MTException("Invalid date range. " + USAGE);
+            }
+        }
+        if (fromDay > toDay) {
+            throw new MTException("The start date must not be after the end date.");
+        }
+        return new DateRange(fromDay, toDay);
+    }
+
+    private static int parseDay(String date) throws MTException {
+        int epochDay = EpochDays.parse(date);
+        if (epochDay == EpochDays.NONE) {
+            throw new MTException("Invalid date: " + date + ". Dates must be in yyyy-MM-dd form.");
+        }
+        return epochDay;
+    }
+
+    /**
+     * @return The range in words, such as "from 2025-03-01 to 2025-03-31"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        if (fromDay != Integer.MIN_VALUE) {
+            builder.append("from ").append(EpochDays.format(fromDay));
+        }
+        if (toDay != Integer.MAX_VALUE) {
+            builder.append(builder.length() == 0 ? "" : " ").append("to ").append(EpochDays.format(toDay));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.duke;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.function.LongSupplier;
+
+/**
+ * Writes files so that a crash never leaves a half-written file behind.
+ * A file is replaced by writing a temporary file next to it and renaming it over the
+ * old one in a single step, so readers see either the old or the new content.
+ * Whether each write is also forced to disk is decided by a {@link SyncPolicy};
+ * files that were not synced yet are remembered and synced by {@link #syncAll()}.
+ * Writes are serialized, so files can be saved from a background thread while another is exported.
+ */
+public class DurableFiles {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final SyncPolicy policy;
+    private final LongSupplier clock;
+    private final LinkedHashSet<Path> unsyncedFiles = new LinkedHashSet<>();
+    private long lastSyncMillis;
+
+    /**
+     * @param policy Decides when written files are synced
+     */
+    public DurableFiles(SyncPolicy policy) {
+        this(policy, System::currentTimeMillis);
+    }
+
+    /**
+     * @param policy Decides when written files are synced
+     * @param clock Current time in milliseconds, replaceable in tests
+     */
+    DurableFiles(SyncPolicy policy, LongSupplier clock) {
+        this.policy = policy;
+        this.clock = clock;
+        this.lastSyncMillis = clock.getAsLong();
+    }
+
+    /**
+     * Replaces the content of a file with a write-then-rename.
+     * If writing fails, the old file is left untouched and the temporary file is removed.
+     *
+     * @param file File to replace
+     * @param content Writes the new content
+     * @throws IOException If the file cannot be written
+     */
+    public synchronized void replace(Path file, Content content) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        boolean isSyncDue = isSyncDue();
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            content.writeTo(out);
+            out.flush();
+            if (isSyncDue) {
+                // The data must be on disk before the rename makes it the live file
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException error) {
+            Files.deleteIfExists(tempFile);
+            throw error;
+        }
+        moveAtomically(tempFile, file);
+        if (isSyncDue) {
+            syncDirectory(file);
+            syncPending();
+        } else {
+            unsyncedFiles.add(file);
+        }
+    }
+
+    /**
+     * Appends text to the end of a file, creating it if needed.
+     *
+     * @param file File to append to
+     * @param text Text to append, encoded as UTF-8
+     * @throws IOException If the file cannot be written
+     */
+    public synchronized void append(Path file, String text) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        boolean isSyncDue = isSyncDue();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(text);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (isSyncDue) {
+                channel.force(false);
+            }
+        }
+        if (!isSyncDue) {
+            unsyncedFiles.add(file);
+            return;
+        }
+        if (isNewFile) {
+            syncDirectory(file);
+        }
+        syncPending();
+    }
+
+    /**
+     * Forces every file written since the last sync to disk, regardless of the policy.
+     * Called on exit so that no policy loses changes on a clean shutdown.
+     *
+     * @throws IOException If a file cannot be synced
+     */
+    public synchronized void syncAll() throws IOException {
+        syncPending();
+    }
+
+    /**
+     * @return Number of written files that have not been synced yet
+     */
+    public synchronized int getUnsyncedCount() {
+        return unsyncedFiles.size();
+    }
+
+    private boolean isSyncDue() {
+        return policy.isSyncDue(clock.getAsLong() - lastSyncMillis);
+    }
+
+    /**
+     * Syncs the files left unsynced by earlier writes and restarts the sync interval.
+     */
+    private void syncPending() throws IOException {
+        for (Path file : unsyncedFiles) {
+            // A file deleted since it was written has nothing left to sync
+            if (Files.exists(file)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+                syncDirectory(file);
+            }
+        }
+        unsyncedFiles.clear();
+        lastSyncMillis = clock.getAsLong();
+    }
+
+    /**
+     * Renames a file over another, atomically where the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException error) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the directory holding a file, so that a rename or a newly created file survives a crash.
+     * Some platforms cannot open a directory for syncing; the file contents are synced regardless.
+     */
+    private static void syncDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException error) {
+            // Not supported on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file being replaced.
+     */
+    public interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -1,13 +1,98 @@
 package seedu.duke;
 
-public class Entry {
-    protected String type; // income or expense
-    protected String description;
-    protected double value;
+/**
+ * Represents a money entry with description, amount and date.
+ * Serves as the shared base of {@link Expense} and {@link Income}.
+ */
+public abstract class Entry {
+    protected final String description;
+    protected final long amountCents;
+    protected final String date;
+    // The date as a day number, or EpochDays.NONE if it is not a "yyyy-MM-dd" date
+    protected final int epochDay;
+    private int id = -1;
 
-    public Entry(String description) {
-        this.type = type;
+    /**
+     * Creates an Entry with mandatory description and amount.
+     * Uses "no date" if date is empty/null.
+     *
+     * @param description Entry description
+     * @param amountCents Entry amount in cents
+     * @param date Entry date (optional)
+     */
+    protected Entry(String description, long amountCents, String date) {
         this.description = description;
-        this.value = value;
+        this.amountCents = amountCents;
+        this.date = (date == null || date.isEmpty()) ? "no date" : date;
+        this.epochDay = EpochDays.parse(this.date);
+    }
+
+    /**
+     * @return Entry description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * @return Entry amount in dollars
+     */
+    public double getAmount() {
+        return Money.toDollars(this.amountCents);
+    }
+
+    /**
+     * @return Entry amount in cents
+     */
+    public long getAmountCents() {
+        return this.amountCents;
+    }
+
+    /**
+     * @return Entry date (or "no date" if not specified)
+     */
+    public String getDate() {
+        return this.date;
+    }
+
+    /**
+     * @return Days since 1970-01-01, or {@link EpochDays#NONE} if the date is not in "yyyy-MM-dd" form
+     */
+    public int getEpochDay() {
+        return this.epochDay;
+    }
+
+    /**
+     * @return Id assigned by the owning {@link MoneyList}, or -1 if not yet assigned
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Assigns the id used to identify this entry in indexes.
+     * Ids increase in the order entries are added, so they follow list order.
+     *
+     * @param id Entry id
+     */
+    void assignId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Parses an entry from the string form written by {@link #toString()}.
+     *
+     * @param entry Saved entry string starting with "Expense: " or "Income: "
+     * @return The parsed Expense or Income
+     * @throws MTException If the string is not a valid entry
+     */
+    public static Entry parseString(String entry) throws MTException {
+        if (entry.startsWith("Expense: ")) {
+            return Expense.parseString(entry);
+        }
+        if (entry.startsWith("Income: ")) {
+            return Income.parseString(entry);
+        }
+        throw new MTException("Invalid entry format");
     }
 }
@@ -0,0 +1,323 @@
+package seedu.duke;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Holds entries in list order in slots that never shift when an entry is deleted.
+ * A delete only leaves a tombstone in its slot, and a Fenwick tree counting the live slots
+ * turns an entry number into its slot, and a slot back into a number, in logarithmic time,
+ * so entry numbers stay the same as with a plain list. Entry ids increase along the slots,
+ * so the slot of an id is found by binary search over the slot ids, which lets journal records
+ * name entries by id instead of by number. Once tombstones outnumber the live
+ * entries, the slots are compacted in one pass, which keeps the cost of a delete constant on average.
+ */
+public class EntryStore extends AbstractList<Entry> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    // Entry in each slot, or null for a tombstone
+    private Entry[] slots = new Entry[INITIAL_CAPACITY];
+    // Id of the entry in each slot, kept for tombstones too, so that it stays sorted for binary search
+    private int[] slotIds = new int[INITIAL_CAPACITY];
+    // Fenwick tree over slots 1..capacity, counting live slots
+    private int[] liveCounts = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int liveCount;
+
+    /**
+     * @return Number of entries, not counting tombstones
+     */
+    @Override
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * @param index Zero-based entry number
+     * @return The entry
+     */
+    @Override
+    public Entry get(int index) {
+        return slots[slotOf(index)];
+    }
+
+    /**
+     * Appends an entry after every other entry.
+     * Its id must be greater than the id of every entry added before.
+     *
+     * @param entry The entry to add
+     * @return Always true
+     */
+    @Override
+    public boolean add(Entry entry) {
+        assert slotCount == 0 || entry.getId() > slotIds[slotCount - 1] : "Entry ids must increase";
+        if (slotCount == slots.length) {
+            resize(slots.length * 2);
+        }
+        slots[slotCount] = entry;
+        slotIds[slotCount] = entry.getId();
+        slotCount++;
+        liveCount++;
+        updateLiveCount(slotCount - 1, 1);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces an entry in place. The new entry takes over the slot, so it must have the same id.
+     *
+     * @param index Zero-based entry number
+     * @param entry The new entry
+     * @return The entry that was replaced
+     */
+    @Override
+    public Entry set(int index, Entry entry) {
+        int slot = slotOf(index);
+        Entry oldEntry = slots[slot];
+        slots[slot] = entry;
+        return oldEntry;
+    }
+
+    /**
+     * Deletes an entry by leaving a tombstone in its slot; later entries keep their slots.
+     *
+     * @param index Zero-based entry number
+     * @return The removed entry
+     */
+    @Override
+    public Entry remove(int index) {
+        return removeSlot(slotOf(index));
+    }
+
+    /**
+     * Replaces the entry with an id in place, going straight from the id to its slot.
+     *
+     * @param entry The new entry, with the id of the entry it replaces
+     * @return The entry that was replaced, or null if no live entry has the id
+     */
+    public Entry setById(Entry entry) {
+        int slot = slotOfId(entry.getId());
+        if (slot < 0) {
+            return null;
+        }
+        Entry oldEntry = slots[slot];
+        slots[slot] = entry;
+        return oldEntry;
+    }
+
+    /**
+     * Deletes the entry with an id, going straight from the id to its slot.
+     *
+     * @param id Id of the entry to delete
+     * @return The removed entry, or null if no live entry has the id
+     */
+    public Entry removeById(int id) {
+        int slot = slotOfId(id);
+        return slot < 0 ? null : removeSlot(slot);
+    }
+
+    /**
+     * @param id Id of an entry about to be added
+     * @return True if the id is greater than that of every entry added so far, as {@link #add} requires
+     */
+    public boolean acceptsId(int id) {
+        return slotCount == 0 || id > slotIds[slotCount - 1];
+    }
+
+    private Entry removeSlot(int slot) {
+        Entry removed = slots[slot];
+        slots[slot] = null;
+        liveCount--;
+        updateLiveCount(slot, -1);
+        modCount++;
+        int tombstoneCount = slotCount - liveCount;
+        if (tombstoneCount >= MIN_TOMBSTONES_TO_COMPACT && tombstoneCount > liveCount) {
+            compact();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(slots, 0, slotCount, null);
+        Arrays.fill(liveCounts, 0);
+        slotCount = 0;
+        liveCount = 0;
+        modCount++;
+    }
+
+    /**
+     * Walks the slots directly, skipping tombstones, instead of looking up every entry number.
+     */
+    @Override
+    public Iterator<Entry> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Walks the slots from an entry number to the end, skipping tombstones.
+     * Only the first entry is looked up, so a window of k entries costs O(k + log n) plus any tombstones in it.
+     *
+     * @param index Zero-based number of the first entry to return; may equal the size
+     * @return Iterator over the entries from the index on
+     */
+    public Iterator<Entry> iterator(int index) {
+        int firstSlot = index == liveCount ? slotCount : slotOf(index);
+        return new Iterator<>() {
+            private int slot = firstSlot;
+
+            @Override
+            public boolean hasNext() {
+                return slot < slotCount;
+            }
+
+            @Override
+            public Entry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Entry entry = slots[slot];
+                slot = nextLiveSlot(slot + 1);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Makes room for entries, so that adding them does not grow the slots repeatedly.
+     *
+     * @param capacity Number of slots needed
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > slots.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Finds the entry number of an entry from its id.
+     *
+     * @param id Id of an entry in the store
+     * @return Zero-based entry number, or -1 if no live entry has the id
+     */
+    public int indexOfId(int id) {
+        int slot = slotOfId(id);
+        return slot < 0 ? -1 : countLiveBefore(slot);
+    }
+
+    /**
+     * @return Number of slots holding tombstones
+     */
+    public int getTombstoneCount() {
+        return slotCount - liveCount;
+    }
+
+    /**
+     * Drops every tombstone, moving live entries down to fill the gaps.
+     */
+    public void compact() {
+        if (liveCount == slotCount) {
+            return;
+        }
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                slots[live] = slots[slot];
+                slotIds[live] = slotIds[slot];
+                live++;
+            }
+        }
+        Arrays.fill(slots, live, slotCount, null);
+        slotCount = live;
+        rebuildLiveCounts();
+    }
+
+    /**
+     * Finds the slot holding an entry number.
+     *
+     * @param index Zero-based entry number
+     * @return The slot
+     */
+    private int slotOf(int index) {
+        if (index < 0 || index >= liveCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + liveCount);
+        }
+        if (liveCount == slotCount) {
+            return index;
+        }
+        // Descend the Fenwick tree to the slot with exactly index live slots before it
+        int position = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(slots.length); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= slots.length && liveCounts[next] < remaining) {
+                position = next;
+                remaining -= liveCounts[next];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Finds the slot holding an entry from its id.
+     *
+     * @param id Entry id
+     * @return The slot, or -1 if no live entry has the id
+     */
+    private int slotOfId(int id) {
+        int slot = Arrays.binarySearch(slotIds, 0, slotCount, id);
+        return slot < 0 || slots[slot] == null ? -1 : slot;
+    }
+
+    private int countLiveBefore(int slot) {
+        if (liveCount == slotCount) {
+            return slot;
+        }
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += liveCounts[i];
+        }
+        return count;
+    }
+
+    private void updateLiveCount(int slot, int delta) {
+        for (int i = slot + 1; i < liveCounts.length; i += i & -i) {
+            liveCounts[i] += delta;
+        }
+    }
+
+    private int nextLiveSlot(int slot) {
+        while (slot < slotCount && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        slots = Arrays.copyOf(slots, capacity);
+        slotIds = Arrays.copyOf(slotIds, capacity);
+        rebuildLiveCounts();
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from the slots in linear time.
+     */
+    private void rebuildLiveCounts() {
+        liveCounts = new int[slots.length + 1];
+        for (int i = 1; i <= slots.length; i++) {
+            if (i <= slotCount && slots[i - 1] != null) {
+                liveCounts[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= slots.length) {
+                liveCounts[parent] += liveCounts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duke;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Converts entry dates between their "yyyy-MM-dd" text and a day number counted from 1970-01-01.
+ * Entry dates are free text, so only dates that print back exactly as written are converted;
+ * anything else, including "no date", has no day number.
+ */
+public final class EpochDays {
+    /** Returned for dates that are not in "yyyy-MM-dd" form. */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Parses a "yyyy-MM-dd" date without going through a date formatter.
+     *
+     * @param date Date text, may be null
+     * @return Days since 1970-01-01, or {@link #NONE} if the text is not a valid date in that form
+     */
+    public static int parse(String date) {
+        if (date == null || date.length() != ISO_DATE_LENGTH
+                || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return NONE;
+        }
+        int year = parseDigits(date, 0, 4);
+        int month = parseDigits(date, 5, 7);
+        int day = parseDigits(date, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return NONE;
+        }
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * @param epochDay Days since 1970-01-01
+     * @return The date as "yyyy-MM-dd"
+     */
+    public static String format(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay).toString();
+    }
+
+    /**
+     * @return The number formed by the digits in [start, end), or -1 if any character is not a digit
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
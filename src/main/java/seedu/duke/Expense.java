@@ -4,11 +4,8 @@ package seedu.duke;
 /**
  * Represents an expense with description, amount, category, and date.
  */
-public class Expense {
-    protected String description;
-    protected double amount;
-    protected String date;
-    protected String category;
+public class Expense extends Entry {
+    protected final String category;
 
     //@@author Hansel-K
     /**
@@ -22,39 +19,33 @@ public class Expense {
      * @param date Expense date (optional)
      */
     public Expense(String description, double amount, String category, String date) {
-        this.description = description;
-        this.amount = amount;
-        this.category = (category == null || category.isEmpty()) ? "Uncategorized" : category;
-        this.date = (date == null || date.isEmpty()) ? "no date" : date;
+        this(Money.toCents(amount), description, category, date);
     }
     //@@author
 
-    /**
-     * @return Expense description
-     */
-    public String getDescription() {
-        return this.description;
-    }
-
-    /**
-     * @return Expense amount
-     */
-    public double getAmount() {
-        return this.amount;
+    private Expense(long amountCents, String description, String category, String date) {
+        super(description, amountCents, date);
+        this.category = (category == null || category.isEmpty()) ? "Uncategorized" : category;
     }
 
     /**
-     * @return Expense date (or "no date" if not specified)
+     * Creates an Expense from an amount already held in cents.
+     *
+     * @param description Expense description
+     * @param amountCents Expense amount in cents
+     * @param category Expense category (optional)
+     * @param date Expense date (optional)
+     * @return The new Expense
      */
-    public String getDate() {
-        return this.date;
+    public static Expense ofCents(String description, long amountCents, String category, String date) {
+        return new Expense(amountCents, description, category, date);
     }
 
     /**
      * @return Expense category (or "Uncategorized" if not specified)
      */
     public String getCategory() {
-        return this.category;
+        return category;
     }
 
     //@@author Hansel-K
@@ -63,8 +54,9 @@ public class Expense {
      */
     @Override
     public String toString() {
-        return String.format("Expense: %s $%.2f {%s} [%s]",
-                this.getDescription(), this.getAmount(), this.getCategory(), this.getDate());
+        StringBuilder builder = new StringBuilder(64).append("Expense: ").append(description).append(" $");
+        return Money.appendTo(builder, amountCents)
+                .append(" {").append(category).append("} [").append(date).append(']').toString();
     }
     //@@author
 
@@ -82,11 +74,11 @@ public class Expense {
             int closeBracket = stripped.indexOf(']', openBracket);
 
             String desc = stripped.substring(0, dollarIndex).trim();
-            double amount = Double.parseDouble(stripped.substring(dollarIndex + 1, openBrace).trim());
+            long amountCents = Money.parseCentsLeniently(stripped.substring(dollarIndex + 1, openBrace));
             String cat = stripped.substring(openBrace + 1, closeBrace).trim();
             String date = stripped.substring(openBracket + 1, closeBracket).trim();
 
-            return new Expense(desc, amount, cat, date);
+            return new Expense(amountCents, desc, cat, date);
         } catch (Exception e) {
             throw new MTException("Invalid expense format");
         }
@@ -0,0 +1,56 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Gives read access to the bytes of a saved file.
+ * Large files are memory-mapped, so their pages are read by the operating system
+ * as they are scanned instead of being copied through a stream first.
+ * Small files are simply read into memory, which is cheaper than setting up a mapping
+ * and does not keep the file mapped (and, on Windows, locked) until the mapping is collected.
+ */
+public final class FileBuffers {
+    /** Files at least this large are memory-mapped. */
+    public static final long MAPPING_THRESHOLD = 16L * 1024 * 1024;
+
+    private FileBuffers() {
+    }
+
+    /**
+     * Returns the whole content of a file as a buffer, mapping it if it is large.
+     *
+     * @param file File to read
+     * @return Buffer positioned at the start of the file, with its limit at the end
+     * @throws IOException If the file cannot be read or is too large for one buffer
+     */
+    public static ByteBuffer read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to read at once: " + file);
+            }
+            if (size < MAPPING_THRESHOLD) {
+                return ByteBuffer.wrap(Files.readAllBytes(file));
+            }
+            return map(channel, 0, size);
+        }
+    }
+
+    /**
+     * Maps part of an open file read-only.
+     *
+     * @param channel Open channel of the file
+     * @param position Offset of the first byte to map
+     * @param length Number of bytes to map, at most {@link Integer#MAX_VALUE}
+     * @return The mapped bytes
+     * @throws IOException If the file cannot be mapped
+     */
+    public static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+}
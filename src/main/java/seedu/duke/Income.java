@@ -4,10 +4,7 @@ package seedu.duke;
 /**
  * Represents an income with description, amount and date.
  */
-public class Income {
-    protected String description;
-    protected double amount;
-    protected String date;
+public class Income extends Entry {
 
     //@@author limleyhooi
     /**
@@ -19,49 +16,62 @@ public class Income {
      * @param date Income date (optional)
      */
     public Income(String description, double amount, String date) {
-        this.description = description;
-        this.amount = amount;
-        this.date = (date == null || date.isEmpty()) ? "no date" : date;
+        this(Money.toCents(amount), description, date);
     }
     //@@author
 
-
-    //@@author limleyhooi
-    /**
-     * @return Income description
-     */
-    public String getDescription() {
-        return this.description;
+    private Income(long amountCents, String description, String date) {
+        super(description, amountCents, date);
     }
-    //@@author
 
-    //@@author limleyhooi
     /**
-     * @return Income amount
+     * Creates an Income from an amount already held in cents.
+     *
+     * @param description Income description
+     * @param amountCents Income amount in cents
+     * @param date Income date (optional)
+     * @return The new Income
      */
-    public double getAmount() {
-        return this.amount;
+    public static Income ofCents(String description, long amountCents, String date) {
+        return new Income(amountCents, description, date);
     }
-    //@@author
 
     //@@author limleyhooi
     /**
-     * @return Income date of entry
+     * @return Formatted string representation of income
      */
-    public String getDate() {
-        return this.date;
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(48).append("Income: ").append(description).append(" $");
+        return Money.appendTo(builder, amountCents).append(" [").append(date).append(']').toString();
     }
     //@@author
 
-    //@@author limleyhooi
     /**
-     * @return Formatted string representation of income
+     * Parses an income from the string form written by {@link #toString()}.
+     *
+     * @param income Saved income string, e.g. "Income: Salary $1000.00 [15 march]"
+     * @return The parsed Income
+     * @throws MTException If the string is not a valid income
      */
-    @Override
-    public String toString() {
-        return String.format("Income: %s $%.2f [%s]",
-                this.getDescription(), this.getAmount(),this.getDate());
+    public static Income parseString(String income) throws MTException {
+        if (!income.startsWith("Income: ")) {
+            throw new MTException("Invalid income format");
+        }
+        try {
+            String stripped = income.substring("Income: ".length()).trim();
+            int dollarIndex = stripped.indexOf('$');
+            int openBracket = stripped.indexOf('[', dollarIndex);
+            int closeBracket = stripped.indexOf(']', openBracket);
+
+            String desc = stripped.substring(0, dollarIndex).trim();
+            long amountCents = Money.parseCentsLeniently(stripped.substring(dollarIndex + 1, openBracket));
+            String date = stripped.substring(openBracket + 1, closeBracket).trim();
+
+            return new Income(amountCents, desc, date);
+        } catch (Exception e) {
+            throw new MTException("Invalid income format");
+        }
     }
-    //@@author
 }
 //@@author
@@ -0,0 +1,111 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends records to the journal with group commit.
+ * Records committed while an earlier batch is being written are gathered into the next batch,
+ * which is then written with a single append and a single sync. Each caller returns only once
+ * the batch holding its records has been written and, if the sync policy asks for it, synced.
+ */
+public class JournalWriter {
+    private final DurableFiles files;
+    private final Path journalFile;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchWritten = lock.newCondition();
+
+    // Guarded by lock
+    private Batch openBatch = new Batch();
+    private boolean isWriting;
+    private int batchCount;
+
+    /**
+     * @param files Writes and syncs the journal file
+     * @param journalFile Journal file to append to
+     */
+    public JournalWriter(DurableFiles files, Path journalFile) {
+        this.files = files;
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Appends records to the journal, waiting until the batch holding them has been written.
+     * If no batch is being written, the caller writes the open batch itself, including any
+     * records other callers added to it in the meantime.
+     *
+     * @param records Journal records, each without a line separator
+     * @throws IOException If the batch holding the records could not be written
+     */
+    public void commit(List<String> records) throws IOException {
+        lock.lock();
+        try {
+            Batch batch = openBatch;
+            batch.add(records);
+            while (!batch.isDone) {
+                if (isWriting) {
+                    batchWritten.awaitUninterruptibly();
+                } else {
+                    writeOpenBatch();
+                }
+            }
+            if (batch.error != null) {
+                throw new IOException(batch.error.getMessage(), batch.error);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of batches written so far
+     */
+    public int getBatchCount() {
+        lock.lock();
+        try {
+            return batchCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the open batch and writes it without holding the lock, so that other
+     * callers can start filling the next batch meanwhile. Called with the lock held.
+     */
+    private void writeOpenBatch() {
+        Batch batch = openBatch;
+        openBatch = new Batch();
+        isWriting = true;
+        lock.unlock();
+        try {
+            files.append(journalFile, batch.text.toString());
+        } catch (IOException error) {
+            batch.error = error;
+        } finally {
+            lock.lock();
+            isWriting = false;
+            batch.isDone = true;
+            batchCount++;
+            batchWritten.signalAll();
+        }
+    }
+
+    /**
+     * Records waiting to be written together.
+     */
+    private static class Batch {
+        private final StringBuilder text = new StringBuilder();
+        private boolean isDone;
+        private IOException error;
+
+        private void add(List<String> records) {
+            for (String record : records) {
+                text.append(record).append('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package seedu.duke;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains an inverted index from the description, category and date tokens of entries
+ * to entry ids, together with a trigram index over the token vocabulary.
+ * A keyword is answered by looking up the tokens that contain it, merging their
+ * entry ids and confirming each candidate, instead of scanning every entry.
+ * Removing an entry only forgets the entry, leaving its ids in the postings as stale ids that
+ * lookups skip, so a delete or edit never shifts the long postings of common tokens;
+ * an edit only touches the postings of the tokens it changes.
+ * Once stale ids outnumber live ones, the postings are rebuilt from the live entries.
+ */
+public class KeywordIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_STALE_IDS_TO_REBUILD = 256;
+
+    // token -> ids of entries containing that token, kept sorted
+    private final HashMap<String, IdList> postings = new HashMap<>();
+    // trigram -> tokens containing that trigram
+    private final HashMap<String, HashSet<String>> tokensByGram = new HashMap<>();
+    private final HashMap<Integer, Entry> entriesById = new HashMap<>();
+    // Number of (token, id) pairs in the postings for live entries, and for removed entries
+    private int livePostingCount;
+    private int stalePostingCount;
+
+    /**
+     * Adds an entry to the index under its id.
+     *
+     * @param entry The entry to index
+     */
+    public void add(Entry entry) {
+        entriesById.put(entry.getId(), entry);
+        addPostings(entry.getId(), tokensOf(entry));
+    }
+
+    /**
+     * Replaces an entry with its edited version, which has the same id.
+     * Only the tokens the edit dropped or brought in change the postings: a token of both versions
+     * already lists the id, so it is counted neither as stale nor as a new posting.
+     * A dropped token that a later edit brings back stays counted as stale until the next rebuild,
+     * which only makes that rebuild come a little early.
+     *
+     * @param oldEntry The entry in the index
+     * @param newEntry The edited entry, with the same id
+     */
+    public void replace(Entry oldEntry, Entry newEntry) {
+        if (oldEntry.getId() != newEntry.getId() || entriesById.get(oldEntry.getId()) != oldEntry) {
+            remove(oldEntry);
+            add(newEntry);
+            return;
+        }
+        entriesById.put(newEntry.getId(), newEntry);
+        HashSet<String> addedTokens = tokensOf(newEntry);
+        int droppedCount = 0;
+        for (String token : tokensOf(oldEntry)) {
+            if (!addedTokens.remove(token)) {
+                droppedCount++;
+            }
+        }
+        addPostings(newEntry.getId(), addedTokens);
+        markStale(droppedCount);
+    }
+
+    /**
+     * Removes an entry that was previously added.
+     * Its ids stay in the postings until the next rebuild; candidates are always confirmed
+     * against the live entry with the id, so a stale id is never reported.
+     *
+     * @param entry The entry to remove
+     */
+    public void remove(Entry entry) {
+        if (entriesById.remove(entry.getId()) == null) {
+            return;
+        }
+        markStale(tokensOf(entry).size());
+    }
+
+    /**
+     * Counts postings of live entries as stale, rebuilding the postings once stale ones outnumber live ones.
+     *
+     * @param postingCount Number of (token, id) pairs that no longer belong to a live entry
+     */
+    private void markStale(int postingCount) {
+        livePostingCount -= postingCount;
+        stalePostingCount += postingCount;
+        if (stalePostingCount >= MIN_STALE_IDS_TO_REBUILD && stalePostingCount > livePostingCount) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        postings.clear();
+        tokensByGram.clear();
+        entriesById.clear();
+        livePostingCount = 0;
+        stalePostingCount = 0;
+    }
+
+    /**
+     * @return Number of ids in the postings that belong to removed entries
+     */
+    int getStalePostingCount() {
+        return stalePostingCount;
+    }
+
+    private void addPostings(int id, Set<String> tokens) {
+        for (String token : tokens) {
+            IdList ids = postings.get(token);
+            if (ids == null) {
+                ids = new IdList();
+                postings.put(token, ids);
+                addToGramIndex(token);
+            }
+            ids.add(id);
+        }
+        livePostingCount += tokens.size();
+    }
+
+    /**
+     * Drops every stale id, and every token left without live entries, by indexing the live entries afresh.
+     * This costs about as much as the stale ids that triggered it, so a removal costs a constant amount on average.
+     */
+    private void rebuild() {
+        List<Entry> entries = new ArrayList<>(entriesById.values());
+        entries.sort(Comparator.comparingInt(Entry::getId));
+        postings.clear();
+        tokensByGram.clear();
+        livePostingCount = 0;
+        stalePostingCount = 0;
+        for (Entry entry : entries) {
+            addPostings(entry.getId(), tokensOf(entry));
+        }
+    }
+
+    /**
+     * Finds entries whose description, category or date contains the keyword, ignoring case.
+     *
+     * @param keyword The keyword to search for
+     * @return Matching entries in ascending id order
+     */
+    public List<Entry> find(String keyword) {
+        String query = keyword.trim().toLowerCase();
+        List<Entry> results = new ArrayList<>();
+        if (query.isEmpty()) {
+            return results;
+        }
+
+        int[] candidates = null;
+        for (String word : splitWords(query)) {
+            int[] ids = idsOfTokensContaining(word);
+            candidates = (candidates == null) ? ids : intersect(candidates, ids);
+            if (candidates.length == 0) {
+                return results;
+            }
+        }
+
+        for (int id : candidates) {
+            Entry entry = entriesById.get(id);
+            if (entry != null && matches(entry, query)) {
+                results.add(entry);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Collects the ids of entries having a token that contains the word.
+     *
+     * @param word Lower-case query word without whitespace
+     * @return Sorted, distinct entry ids
+     */
+    private int[] idsOfTokensContaining(String word) {
+        int total = 0;
+        List<IdList> lists = new ArrayList<>();
+        for (String token : tokensContaining(word)) {
+            IdList ids = postings.get(token);
+            ids.sortIds();
+            lists.add(ids);
+            total += ids.size();
+        }
+
+        int[] merged = new int[total];
+        int length = 0;
+        for (IdList ids : lists) {
+            System.arraycopy(ids.ids, 0, merged, length, ids.size());
+            length += ids.size();
+        }
+        if (lists.size() == 1) {
+            return merged;
+        }
+        Arrays.sort(merged);
+        return distinct(merged);
+    }
+
+    /**
+     * Looks up vocabulary tokens containing the word.
+     * Words of at least three characters go through the trigram index;
+     * shorter words are checked against the vocabulary directly.
+     *
+     * @param word Lower-case query word without whitespace
+     * @return Tokens containing the word
+     */
+    private List<String> tokensContaining(String word) {
+        List<String> tokens = new ArrayList<>();
+        if (word.length() < GRAM_LENGTH) {
+            for (String token : postings.keySet()) {
+                if (token.contains(word)) {
+                    tokens.add(token);
+                }
+            }
+            return tokens;
+        }
+
+        HashSet<String> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            HashSet<String> withGram = tokensByGram.get(word.substring(i, i + GRAM_LENGTH));
+            if (withGram == null) {
+                return tokens;
+            }
+            if (smallest == null || withGram.size() < smallest.size()) {
+                smallest = withGram;
+            }
+        }
+        for (String token : smallest) {
+            if (token.contains(word)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Confirms that a candidate entry has a field containing the whole query.
+     *
+     * @param entry The candidate entry
+     * @param query Lower-case query
+     * @return True if the description, category or date contains the query
+     */
+    private static boolean matches(Entry entry, String query) {
+        if (containsIgnoreCase(entry.getDescription(), query)
+                || containsIgnoreCase(entry.getDate(), query)) {
+            return true;
+        }
+        return entry instanceof Expense expense && containsIgnoreCase(expense.getCategory(), query);
+    }
+
+    /**
+     * Checks for a case-insensitive substring without creating a lower-case copy.
+     *
+     * @param text Text to search in
+     * @param query Lower-case text to search for
+     * @return True if text contains query
+     */
+    private static boolean containsIgnoreCase(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits the indexed fields of an entry into distinct lower-case tokens.
+     *
+     * @param entry The entry to tokenize
+     * @return Distinct tokens of the description, category and date
+     */
+    private static HashSet<String> tokensOf(Entry entry) {
+        HashSet<String> tokens = new HashSet<>();
+        tokens.addAll(splitWords(entry.getDescription().toLowerCase()));
+        tokens.addAll(splitWords(entry.getDate().toLowerCase()));
+        if (entry instanceof Expense expense) {
+            tokens.addAll(splitWords(expense.getCategory().toLowerCase()));
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits text on whitespace.
+     *
+     * @param text Text to split
+     * @return Non-empty words in order
+     */
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isBoundary = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isBoundary && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            } else if (!isBoundary && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    private void addToGramIndex(String token) {
+        for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+            tokensByGram.computeIfAbsent(token.substring(i, i + GRAM_LENGTH), gram -> new HashSet<>()).add(token);
+        }
+    }
+
+    /**
+     * Intersects two sorted, distinct id arrays.
+     */
+    private static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int length = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[length++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Drops repeated values from a sorted id array.
+     */
+    private static int[] distinct(int[] sorted) {
+        int length = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, length);
+    }
+
+    /**
+     * A growable array of distinct ids, read in ascending order.
+     * Ids are handed out in increasing order, so most additions append in order. An edited entry keeps
+     * its id and may add it out of order; the ids are then sorted once, the next time they are read,
+     * instead of being shifted on every addition.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size;
+        // False once an id was appended after a larger one, until the ids are read again
+        private boolean isSorted = true;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                if (ids[size - 1] == id) {
+                    return;
+                }
+                isSorted = false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Sorts the ids, dropping repeats, if any were added out of order.
+         */
+        void sortIds() {
+            if (isSorted) {
+                return;
+            }
+            Arrays.sort(ids, 0, size);
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[length++] = ids[i];
+                }
+            }
+            size = length;
+            isSorted = true;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
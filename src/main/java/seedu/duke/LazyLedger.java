@@ -0,0 +1,93 @@
+package seedu.duke;
+
+import java.util.List;
+
+/**
+ * Saved entries that have been opened but not necessarily read yet.
+ * The number of entries and the next free entry id are known as soon as the ledger is opened,
+ * while the entries themselves are only read and parsed the first time {@link #load()} is called.
+ */
+public final class LazyLedger {
+    private final int size;
+    private final int nextEntryId;
+    private Loader loader;
+    private List<Entry> entries;
+
+    /**
+     * Creates a ledger whose entries are read on demand and have the ids 0 to size - 1.
+     *
+     * @param size Number of entries the loader will return
+     * @param loader Reads the entries when they are first needed
+     */
+    LazyLedger(int size, Loader loader) {
+        this(size, size, loader);
+    }
+
+    /**
+     * Creates a ledger whose entries are read on demand.
+     *
+     * @param size Number of entries the loader will return
+     * @param nextEntryId One more than the largest id the loader's entries have, or any saved change used
+     * @param loader Reads the entries when they are first needed
+     */
+    LazyLedger(int size, int nextEntryId, Loader loader) {
+        this.size = size;
+        this.nextEntryId = nextEntryId;
+        this.loader = loader;
+    }
+
+    /**
+     * Wraps entries that have already been read.
+     *
+     * @param entries The loaded entries, with their ids
+     * @param nextEntryId One more than the largest id the entries have, or any saved change used
+     * @return A ledger that is already loaded
+     */
+    static LazyLedger of(List<Entry> entries, int nextEntryId) {
+        LazyLedger ledger = new LazyLedger(entries.size(), nextEntryId, null);
+        ledger.entries = entries;
+        return ledger;
+    }
+
+    /**
+     * @return Number of saved entries, known without loading them
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The id to give the next added entry, so that it comes after every saved one
+     */
+    public int getNextEntryId() {
+        return nextEntryId;
+    }
+
+    /**
+     * @return True once the entries have been read
+     */
+    public boolean isLoaded() {
+        return entries != null;
+    }
+
+    /**
+     * Reads the entries if that has not happened yet.
+     *
+     * @return The saved entries, in list order, with the ids journal records know them by
+     * @throws MTException If the saved entries cannot be read
+     */
+    public List<Entry> load() throws MTException {
+        if (entries == null) {
+            entries = loader.load();
+            loader = null;
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the saved entries in full.
+     */
+    interface Loader {
+        List<Entry> load() throws MTException;
+    }
+}
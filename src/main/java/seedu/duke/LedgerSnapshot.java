@@ -0,0 +1,284 @@
+package seedu.duke;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reads and writes the ledger as a compact binary snapshot laid out in columns.
+ * The header holds the number of entries, the journal generation of the snapshot and the next free
+ * entry id: every snapshot gets a new generation, and only journal records made with that generation apply to it.
+ * After the header, the file holds the category dictionary, then one column each for the
+ * entry flags, amounts in cents, dates as epoch days, category ids and entry ids, and finally
+ * a heap holding the descriptions and any dates that are not plain "yyyy-MM-dd" text.
+ * Entry ids are saved so that journal records, which name entries by id, still find them after a reload.
+ * Nothing has to be parsed character by character when it is read back.
+ */
+public final class LedgerSnapshot {
+    /** Identifies the file format: "MTL" followed by a format version byte. */
+    private static final int MAGIC = 0x4D544C03;
+    /** Size of the magic number, row count, journal generation and next entry id that start every snapshot. */
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private static final int INCOME_FLAG = 1;
+    private static final int EPOCH_DAY_FLAG = 1 << 1;
+    private static final int TEXT_DATE_FLAG = 1 << 2;
+    private static final int NO_CATEGORY = -1;
+    private static final String NO_DATE = "no date";
+
+    private LedgerSnapshot() {
+    }
+
+    /**
+     * Writes the entries as a binary snapshot to a stream.
+     * Entries keep their ids; one that has none yet, or whose id is not above that of the entry
+     * before it, is saved with the id after it instead, as ids must increase along the list.
+     * The stream is flushed but not closed.
+     *
+     * @param entries Entries to write, in list order
+     * @param journalGeneration Generation that journal records made after this snapshot are marked with
+     * @param stream Stream to write to
+     * @throws IOException If the stream cannot be written
+     */
+    public static void write(List<? extends Entry> entries, int journalGeneration, OutputStream stream)
+            throws IOException {
+        int rowCount = entries.size();
+        byte[] flags = new byte[rowCount];
+        int[] dates = new int[rowCount];
+        int[] categoryIds = new int[rowCount];
+        int[] entryIds = new int[rowCount];
+        HashMap<String, Integer> categoryIdsByName = new HashMap<>();
+        List<String> categories = new ArrayList<>();
+        List<String> textDates = new ArrayList<>();
+
+        int nextEntryId = 0;
+        for (int row = 0; row < rowCount; row++) {
+            Entry entry = entries.get(row);
+            int rowFlags = entry instanceof Income ? INCOME_FLAG : 0;
+            entryIds[row] = Math.max(entry.getId(), nextEntryId);
+            nextEntryId = entryIds[row] + 1;
+
+            String date = entry.getDate();
+            int epochDay = entry.getEpochDay();
+            if (epochDay != EpochDays.NONE) {
+                rowFlags |= EPOCH_DAY_FLAG;
+                dates[row] = epochDay;
+            } else if (!NO_DATE.equals(date)) {
+                rowFlags |= TEXT_DATE_FLAG;
+                dates[row] = rowCount + textDates.size();
+                textDates.add(date);
+            }
+
+            categoryIds[row] = NO_CATEGORY;
+            if (entry instanceof Expense expense) {
+                Integer id = categoryIdsByName.get(expense.getCategory());
+                if (id == null) {
+                    id = categories.size();
+                    categoryIdsByName.put(expense.getCategory(), id);
+                    categories.add(expense.getCategory());
+                }
+                categoryIds[row] = id;
+            }
+            flags[row] = (byte) rowFlags;
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(rowCount);
+        out.writeInt(journalGeneration);
+        out.writeInt(nextEntryId);
+        out.writeInt(categories.size());
+        for (String category : categories) {
+            writeString(out, category);
+        }
+        out.write(flags);
+        for (Entry entry : entries) {
+            out.writeLong(entry.getAmountCents());
+        }
+        for (int date : dates) {
+            out.writeInt(date);
+        }
+        for (int categoryId : categoryIds) {
+            out.writeInt(categoryId);
+        }
+        for (int entryId : entryIds) {
+            out.writeInt(entryId);
+        }
+        writeHeap(out, entries, textDates);
+        out.flush();
+    }
+
+    /**
+     * Reads every entry from a binary snapshot file.
+     *
+     * @param file File to read
+     * @return The entries, in the order they were written
+     * @throws IOException If the file cannot be read
+     * @throws MTException If the file is not a valid snapshot
+     */
+    public static ArrayList<Entry> read(Path file) throws IOException, MTException {
+        return read(FileBuffers.read(file));
+    }
+
+    /**
+     * Reads only the header of a binary snapshot file, to find how many entries it holds
+     * and which journal records apply to it. The rest of the file is left unread.
+     *
+     * @param file File to read
+     * @return The header of the snapshot
+     * @throws IOException If the file cannot be read
+     * @throws MTException If the file is not a valid snapshot
+     */
+    public static Header readHeader(Path file) throws IOException, MTException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new MTException("Saved entries are corrupted: the header is incomplete.");
+                }
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new MTException("Saved entries are not in a supported format.");
+        }
+        int rowCount = header.getInt();
+        if (rowCount < 0) {
+            throw new MTException("Saved entries are corrupted: negative entry count.");
+        }
+        return new Header(rowCount, header.getInt(), header.getInt());
+    }
+
+    /**
+     * Reads every entry from the bytes of a binary snapshot.
+     *
+     * @param buffer Snapshot bytes, positioned at the start of the header
+     * @return The entries, in the order they were written
+     * @throws MTException If the bytes are not a valid snapshot
+     */
+    public static ArrayList<Entry> read(ByteBuffer buffer) throws MTException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new MTException("Saved entries are not in a supported format.");
+            }
+            int rowCount = buffer.getInt();
+            // The journal generation and next entry id are read by readHeader
+            buffer.position(buffer.position() + 2 * Integer.BYTES);
+            String[] categories = new String[buffer.getInt()];
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = readString(buffer);
+            }
+
+            byte[] flags = new byte[rowCount];
+            buffer.get(flags);
+            long[] amounts = new long[rowCount];
+            buffer.asLongBuffer().get(amounts);
+            buffer.position(buffer.position() + rowCount * Long.BYTES);
+            int[] dates = new int[rowCount];
+            buffer.asIntBuffer().get(dates);
+            buffer.position(buffer.position() + rowCount * Integer.BYTES);
+            int[] categoryIds = new int[rowCount];
+            buffer.asIntBuffer().get(categoryIds);
+            buffer.position(buffer.position() + rowCount * Integer.BYTES);
+            int[] entryIds = new int[rowCount];
+            buffer.asIntBuffer().get(entryIds);
+            buffer.position(buffer.position() + rowCount * Integer.BYTES);
+            String[] heap = readHeap(buffer);
+
+            ArrayList<Entry> entries = new ArrayList<>(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                String date = NO_DATE;
+                if ((flags[row] & EPOCH_DAY_FLAG) != 0) {
+                    date = EpochDays.format(dates[row]);
+                } else if ((flags[row] & TEXT_DATE_FLAG) != 0) {
+                    date = heap[dates[row]];
+                }
+                Entry entry;
+                if ((flags[row] & INCOME_FLAG) != 0) {
+                    entry = Income.ofCents(heap[row], amounts[row], date);
+                } else {
+                    entry = Expense.ofCents(heap[row], amounts[row], categories[categoryIds[row]], date);
+                }
+                entry.assignId(entryIds[row]);
+                entries.add(entry);
+            }
+            return entries;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw new MTException("Saved entries are corrupted: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the descriptions, one per row, followed by the text dates,
+     * as an offset table over a single block of UTF-8 bytes.
+     */
+    private static void writeHeap(DataOutputStream out, List<? extends Entry> entries, List<String> textDates)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] offsets = new int[entries.size() + textDates.size() + 1];
+        int slot = 0;
+        for (Entry entry : entries) {
+            String description = entry.getDescription() == null ? "" : entry.getDescription();
+            bytes.write(description.getBytes(StandardCharsets.UTF_8));
+            offsets[++slot] = bytes.size();
+        }
+        for (String date : textDates) {
+            bytes.write(date.getBytes(StandardCharsets.UTF_8));
+            offsets[++slot] = bytes.size();
+        }
+        out.writeInt(offsets.length - 1);
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        bytes.writeTo(out);
+    }
+
+    private static String[] readHeap(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        int[] offsets = new int[count + 1];
+        buffer.asIntBuffer().get(offsets);
+        buffer.position(buffer.position() + offsets.length * Integer.BYTES);
+        byte[] bytes = new byte[offsets[count]];
+        buffer.get(bytes);
+
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The header of a snapshot.
+     *
+     * @param rowCount Number of entries in the snapshot
+     * @param journalGeneration Generation of the journal records that apply to the snapshot
+     * @param nextEntryId One more than the largest entry id in the snapshot, or 0 if it is empty
+     */
+    public record Header(int rowCount, int journalGeneration, int nextEntryId) {
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.duke;
+
+/**
+ * A window of consecutive entries given by the "page/", "size/" and "tail/" options of the list command,
+ * such as "page/3 size/50" for entries 101 to 150, or "tail/20" for the last 20 entries.
+ *
+ * @param page One-based page number; ignored for a tail
+ * @param size Number of entries in the window
+ * @param isTail True if the window holds the last entries rather than a page
+ */
+public record ListWindow(int page, int size, boolean isTail) {
+    /** Page size used when "page/" is given without "size/". */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String PAGE_PREFIX = "page/";
+    private static final String SIZE_PREFIX = "size/";
+    private static final String TAIL_PREFIX = "tail/";
+    private static final String USAGE = "Use: page/<n> [size/<k>] or tail/<k>";
+
+    /**
+     * @param text Command arguments
+     * @return True if the text starts with a window option
+     */
+    public static boolean isWindowOption(String text) {
+        return text.startsWith(PAGE_PREFIX) || text.startsWith(SIZE_PREFIX) || text.startsWith(TAIL_PREFIX);
+    }
+
+    /**
+     * Parses window options such as "page/2 size/50" or "tail/20".
+     *
+     * @param options Whitespace-separated options
+     * @return The window the options describe
+     * @throws MTException If an option is unknown or repeated, a tail is mixed with a page, or a number is invalid
+     */
+    public static ListWindow parse(String options) throws MTException {
+        int page = 0;
+        int size = 0;
+        int tail = 0;
+        for (String option : options.trim().split("\\s+")) {
+            if (option.startsWith(PAGE_PREFIX) && page == 0) {
+                page = parseCount(option.substring(PAGE_PREFIX.length()));
+            } else if (option.startsWith(SIZE_PREFIX) && size == 0) {
+                size = parseCount(option.substring(SIZE_PREFIX.length()));
+            } else if (option.startsWith(TAIL_PREFIX) && tail == 0) {
+                tail = parseCount(option.substring(TAIL_PREFIX.length()));
+            } else {
+                throw new MTException("Invalid list window. " + USAGE);
+            }
+        }
+        if (tail > 0) {
+            if (page > 0 || size > 0) {
+                throw new MTException("Invalid list window. " + USAGE);
+            }
+            return new ListWindow(1, tail, true);
+        }
+        return new ListWindow(Math.max(page, 1), size > 0 ? size : DEFAULT_PAGE_SIZE, false);
+    }
+
+    private static int parseCount(String text) throws MTException {
+        int count;
+        try {
+            count = Integer.parseInt(text);
+        } catch (NumberFormatException error) {
+            count = 0;
+        }
+        if (count <= 0) {
+            throw new MTException("Invalid number: " + text + ". Pages and sizes must be positive whole numbers.");
+        }
+        return count;
+    }
+
+    /**
+     * @param entryCount Number of entries in the list
+     * @return Zero-based index of the first entry in the window; at least entryCount if the window is past the end
+     */
+    public long firstIndex(int entryCount) {
+        if (isTail) {
+            return Math.max(0, entryCount - size);
+        }
+        return (long) (page - 1) * size;
+    }
+
+    /**
+     * @param entryCount Number of entries in the list
+     * @return Number of pages of this size the list fills
+     */
+    public int pageCount(int entryCount) {
+        return (int) (((long) entryCount + size - 1) / size);
+    }
+}
@@ -1,19 +1,25 @@
 package seedu.duke;
 
-import java.util.logging.FileHandler;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
-import java.io.IOException;
 
 /**
  * Serves as a utility class for logging messages to a file.
- * Configures logging to write to "mt.log" with INFO level by default.
+ * Configures logging to write to "mt.log" with INFO level by default;
+ * set the system property "moneytrail.log.level" (e.g. FINE) to change it.
+ * All instances share one {@link AsyncLogHandler}, so log calls only queue
+ * the message and the file is written and rotated on a background thread.
  */
 public class MTLogger {
     private static final String LOG_FILE_NAME = "mt.log";
+    private static final long MAX_LOG_FILE_BYTES = 1024 * 1024;
+    private static final int LOG_BACKUP_COUNT = 3;
+    private static final String LOG_LEVEL_PROPERTY = "moneytrail.log.level";
 
     private final Logger logger;
+    private final String sourceName;
 
     //@@author rchlai
     /**
@@ -22,53 +28,149 @@ public class MTLogger {
      */
     public MTLogger(String className) {
         this.logger = Logger.getLogger(className);
+        this.sourceName = className;
         configureLogger();
     }
     //@@author
 
     /**
-     * Configures the logger to write to a file with basic formatting.
-     * Disables console output and sets log level to INFO.
+     * Configures the logger to write to the shared log file.
+     * Disables console output and sets log level to INFO unless configured otherwise.
      */
     private void configureLogger() {
+        // This prevents log messages from being sent to the console
+        logger.setUseParentHandlers(false);
+        // Loggers are shared per class name, so only attach the shared handler once
+        AsyncLogHandler handler = SharedHandler.INSTANCE;
+        synchronized (logger) {
+            if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+                logger.addHandler(handler);
+            }
+        }
+
+        // Set the logging level (e.g., INFO, FINE, WARNING)
+        logger.setLevel(configuredLevel());
+    }
+
+    /**
+     * @return The level named by the log level property, or INFO if it is unset or invalid
+     */
+    private static Level configuredLevel() {
         try {
-            // This prevents log messages from being sent to the console
-            logger.setUseParentHandlers(false);
-            // Create a FileHandler to write logs to a file; true = append to existing file
-            FileHandler fileHandler = new FileHandler(LOG_FILE_NAME, true);
-            // Use simple text format for logs
-            fileHandler.setFormatter(new SimpleFormatter());
-            // Add the FileHandler to the logger
-            logger.addHandler(fileHandler);
-
-            // Set the logging level (e.g., INFO, FINE, WARNING)
-            logger.setLevel(Level.INFO);
-        } catch (IOException error) {
-            logger.log(Level.SEVERE, "Error configuring logger: "
-                    + error.getMessage(), error);
+            return Level.parse(System.getProperty(LOG_LEVEL_PROPERTY, "INFO"));
+        } catch (IllegalArgumentException error) {
+            return Level.INFO;
         }
     }
 
+    /**
+     * Waits until messages logged so far have been written to the log file.
+     */
+    public static void flush() {
+        SharedHandler.INSTANCE.flush();
+    }
+
     //@@author rchlai
     /**
      * Logs an informational message.
      * @param message The message to log
      */
     public void logInfo(String message) {
-        logger.info(message);
+        logger.logp(Level.INFO, sourceName, null, message);
     }
     //@@author
 
+    /**
+     * Logs an informational message whose text is only assembled when the record is written.
+     * Nothing is allocated if INFO is filtered out, which is why there is no varargs version.
+     * @param pattern Message pattern with a {0} placeholder, as used by MessageFormat
+     * @param param Value for the placeholder
+     */
+    public void logInfo(String pattern, Object param) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.logp(Level.INFO, sourceName, null, pattern, param);
+        }
+    }
+
+    /**
+     * Logs an informational message with a count, which is only boxed if INFO is enabled.
+     * @param pattern Message pattern with a {0,number,#} placeholder, as {0} alone groups counts as in "1,000"
+     * @param count Value for the placeholder
+     */
+    public void logInfo(String pattern, long count) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.logp(Level.INFO, sourceName, null, pattern, count);
+        }
+    }
+
+    /**
+     * Logs an informational message with two placeholders, only assembled if INFO is enabled.
+     * @param pattern Message pattern with {0} and {1} placeholders
+     * @param first Value for {0}
+     * @param second Value for {1}
+     */
+    public void logInfo(String pattern, Object first, Object second) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.logp(Level.INFO, sourceName, null, pattern, new Object[] {first, second});
+        }
+    }
+
+    /**
+     * Logs an informational message with a count and one more value, only assembled if INFO is enabled.
+     * @param pattern Message pattern with {0,number,#} and {1} placeholders
+     * @param count Value for {0}
+     * @param param Value for {1}
+     */
+    public void logInfo(String pattern, long count, Object param) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.logp(Level.INFO, sourceName, null, pattern, new Object[] {count, param});
+        }
+    }
+
     //@@author rchlai
     /**
      * Logs a warning message.
      * @param message The warning message to log
      */
     public void logWarning(String message) {
-        logger.warning(message);
+        logger.logp(Level.WARNING, sourceName, null, message);
     }
     //@@author
 
+    /**
+     * Logs a warning message whose text is only assembled when the record is written.
+     * @param pattern Message pattern with a {0} placeholder, as used by MessageFormat
+     * @param param Value for the placeholder
+     */
+    public void logWarning(String pattern, Object param) {
+        if (logger.isLoggable(Level.WARNING)) {
+            logger.logp(Level.WARNING, sourceName, null, pattern, param);
+        }
+    }
+
+    /**
+     * Logs a warning message with a count, which is only boxed if WARNING is enabled.
+     * @param pattern Message pattern with a {0,number,#} placeholder
+     * @param count Value for the placeholder
+     */
+    public void logWarning(String pattern, long count) {
+        if (logger.isLoggable(Level.WARNING)) {
+            logger.logp(Level.WARNING, sourceName, null, pattern, count);
+        }
+    }
+
+    /**
+     * Logs a warning message with a count and one more value, only assembled if WARNING is enabled.
+     * @param pattern Message pattern with {0,number,#} and {1} placeholders
+     * @param count Value for {0}
+     * @param param Value for {1}
+     */
+    public void logWarning(String pattern, long count, Object param) {
+        if (logger.isLoggable(Level.WARNING)) {
+            logger.logp(Level.WARNING, sourceName, null, pattern, new Object[] {count, param});
+        }
+    }
+
     //@@author rchlai
     /**
      * Logs a severe error message with associated exception.
@@ -76,7 +178,45 @@ public class MTLogger {
      * @param error The associated Throwable/exception
      */
     public void logSevere(String message, Throwable error) {
-        logger.log(Level.SEVERE, message, error);
+        logger.logp(Level.SEVERE, sourceName, null, message, error);
     }
     //@@author
+
+    /**
+     * Logs a detail message, such as one line per entry in a loop.
+     * These are off unless the log level is set to FINE or lower, and then cost only the level check.
+     * @param pattern Message pattern with a {0} placeholder, as used by MessageFormat
+     * @param param Value for the placeholder
+     */
+    public void logFine(String pattern, Object param) {
+        if (logger.isLoggable(Level.FINE)) {
+            logger.logp(Level.FINE, sourceName, null, pattern, param);
+        }
+    }
+
+    /**
+     * Logs a detail message with a count, which is only boxed if FINE is enabled.
+     * @param pattern Message pattern with a {0,number,#} placeholder
+     * @param count Value for the placeholder
+     */
+    public void logFine(String pattern, long count) {
+        if (logger.isLoggable(Level.FINE)) {
+            logger.logp(Level.FINE, sourceName, null, pattern, count);
+        }
+    }
+
+    /**
+     * Holds the handler shared by every MTLogger, created on first use.
+     * The handler is closed on exit so that queued messages reach the file.
+     */
+    private static class SharedHandler {
+        private static final AsyncLogHandler INSTANCE = createHandler();
+
+        private static AsyncLogHandler createHandler() {
+            AsyncLogHandler handler = new AsyncLogHandler(Paths.get(LOG_FILE_NAME),
+                    MAX_LOG_FILE_BYTES, LOG_BACKUP_COUNT);
+            Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "mt-log-close"));
+            return handler;
+        }
+    }
 }
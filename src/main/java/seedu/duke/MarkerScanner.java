@@ -0,0 +1,172 @@
+package seedu.duke;
+
+/**
+ * Finds the argument markers of an entry command, such as "$/" (amount), "c/" (category)
+ * and "d/" (date), in a single pass over the input.
+ * Each field runs from just after its marker up to the next marker or the end of the input,
+ * so fields can be read in any order without splitting the input again.
+ */
+public class MarkerScanner {
+    public static final char AMOUNT = '$';
+    public static final char CATEGORY = 'c';
+    public static final char DATE = 'd';
+
+    private static final char[] MARKERS = {AMOUNT, CATEGORY, DATE};
+
+    private final String text;
+    private final int start;
+    // Index of the first occurrence of each marker in MARKERS, or -1 if it does not occur
+    private final int[] positions = {-1, -1, -1};
+    private final int[] counts = new int[MARKERS.length];
+
+    private MarkerScanner(String text, int start) {
+        this.text = text;
+        this.start = start;
+    }
+
+    /**
+     * Scans the arguments of an add command, "description $/amount [c/category] [d/date]".
+     * Only the first "$/" is a marker, and "c/" and "d/" are only markers after it,
+     * so they may appear in the description.
+     *
+     * @param text The full input
+     * @param start Index where the arguments begin, i.e. just after the command word
+     * @param hasCategory Whether "c/" is a marker; false for commands without a category
+     * @return The scanned markers
+     */
+    public static MarkerScanner scanEntry(String text, int start, boolean hasCategory) {
+        MarkerScanner scanner = new MarkerScanner(text, start);
+        scanner.scan(true, hasCategory);
+        return scanner;
+    }
+
+    /**
+     * Scans arguments where every marker is optional and may appear anywhere,
+     * as in "edit 1 [description] [$/amount] [c/category] [d/date]".
+     *
+     * @param text The full input
+     * @param start Index where the arguments begin
+     * @return The scanned markers
+     */
+    public static MarkerScanner scanOptions(String text, int start) {
+        MarkerScanner scanner = new MarkerScanner(text, start);
+        scanner.scan(false, true);
+        return scanner;
+    }
+
+    private void scan(boolean isAmountFirst, boolean hasCategory) {
+        boolean isAfterAmount = !isAmountFirst;
+        for (int i = start; i < text.length() - 1; i++) {
+            if (text.charAt(i + 1) != '/') {
+                continue;
+            }
+            char marker = text.charAt(i);
+            if (marker == AMOUNT && counts[0] > 0) {
+                continue;
+            }
+            if (marker != AMOUNT && !isAfterAmount) {
+                continue;
+            }
+            if (marker == CATEGORY && !hasCategory) {
+                continue;
+            }
+            int slot = slotOf(marker);
+            if (slot < 0) {
+                continue;
+            }
+            if (counts[slot]++ == 0) {
+                positions[slot] = i;
+            }
+            isAfterAmount = true;
+            i++;
+        }
+    }
+
+    /**
+     * @param marker One of {@link #AMOUNT}, {@link #CATEGORY} or {@link #DATE}
+     * @return True if the marker occurs in the input
+     */
+    public boolean has(char marker) {
+        return positions[slotOf(marker)] >= 0;
+    }
+
+    /**
+     * @param marker One of {@link #AMOUNT}, {@link #CATEGORY} or {@link #DATE}
+     * @return How many times the marker occurs; "$/" is counted at most once
+     */
+    public int count(char marker) {
+        return counts[slotOf(marker)];
+    }
+
+    /**
+     * @param marker One of {@link #AMOUNT}, {@link #CATEGORY} or {@link #DATE}
+     * @return The trimmed field after the marker, or null if the marker does not occur
+     */
+    public String valueOf(char marker) {
+        int position = positions[slotOf(marker)];
+        if (position < 0) {
+            return null;
+        }
+        return text.substring(position + 2, fieldEnd(position)).trim();
+    }
+
+    /**
+     * @param marker One of {@link #AMOUNT}, {@link #CATEGORY} or {@link #DATE}
+     * @param defaultValue Value to use if the marker does not occur or its field is blank
+     * @return The trimmed field after the marker, or the default value
+     */
+    public String valueOf(char marker, String defaultValue) {
+        String value = valueOf(marker);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    /**
+     * Parses the field after a marker as a dollar amount, without copying it out of the input.
+     *
+     * @param marker Usually {@link #AMOUNT}
+     * @return Amount in cents
+     * @throws NumberFormatException If the marker does not occur or the field is not a number
+     */
+    public long centsOf(char marker) throws NumberFormatException {
+        int position = positions[slotOf(marker)];
+        if (position < 0) {
+            throw new NumberFormatException("Missing amount");
+        }
+        return Money.parseCents(text, position + 2, fieldEnd(position));
+    }
+
+    /**
+     * @return The trimmed text between the start of the arguments and the first marker
+     */
+    public String leadingText() {
+        int end = text.length();
+        for (int position : positions) {
+            if (position >= 0 && position < end) {
+                end = position;
+            }
+        }
+        return text.substring(start, end).trim();
+    }
+
+    /**
+     * @return Index of the next marker after the one at the given position, or the end of the input
+     */
+    private int fieldEnd(int position) {
+        int end = text.length();
+        for (int other : positions) {
+            if (other > position && other < end) {
+                end = other;
+            }
+        }
+        return end;
+    }
+
+    private static int slotOf(char marker) {
+        for (int i = 0; i < MARKERS.length; i++) {
+            if (MARKERS[i] == marker) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
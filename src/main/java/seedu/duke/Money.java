@@ -0,0 +1,216 @@
+package seedu.duke;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts money amounts between text, dollars and whole cents.
+ * Amounts are held as a {@code long} number of cents so that sums are exact,
+ * and the common plain decimal forms are parsed and printed without
+ * going through {@code DecimalFormat} or {@code String.format}.
+ */
+public final class Money {
+    private static final int CENTS_PER_DOLLAR = 100;
+    // Keeps dollars * 100 plus rounding well inside the range of a long
+    private static final int MAX_WHOLE_DIGITS = 15;
+
+    private Money() {
+    }
+
+    /**
+     * Parses a dollar amount such as "12", "12.5" or "-3.45" into cents.
+     * Only an optional minus sign, digits and an optional point followed by digits are accepted,
+     * as amounts typed by the user always were; forms such as "+5", ".5" or "1e5" are rejected.
+     * Amounts with more than two decimal places are parsed on a slower path that rounds them to the
+     * nearest cent as {@code DecimalFormat} did: from the double the text denotes, with ties to even,
+     * so "0.125" gives 12 cents and "2.675", just below 2.675 as a double, gives 267.
+     *
+     * @param text Amount text, surrounding whitespace allowed
+     * @return Amount in cents
+     * @throws NumberFormatException If the text is not an amount or is too large
+     */
+    public static long parseCents(String text) throws NumberFormatException {
+        return parseCents(text, 0, text.length(), false);
+    }
+
+    /**
+     * Parses the dollar amount in part of a string into cents, without copying that part out first.
+     *
+     * @param text Text containing the amount
+     * @param start Index of the first character of the amount, surrounding whitespace allowed
+     * @param end Index just past the last character of the amount
+     * @return Amount in cents
+     * @throws NumberFormatException If that part of the text is not an amount or is too large
+     * @see #parseCents(String)
+     */
+    public static long parseCents(String text, int start, int end) throws NumberFormatException {
+        return parseCents(text, start, end, false);
+    }
+
+    /**
+     * Parses a saved dollar amount into cents, also accepting any other form of {@link BigDecimal},
+     * such as the "1.0E7" that older versions wrote for large budgets.
+     *
+     * @param text Amount text, surrounding whitespace allowed
+     * @return Amount in cents
+     * @throws NumberFormatException If the text is not a number or is too large
+     */
+    public static long parseCentsLeniently(String text) throws NumberFormatException {
+        return parseCents(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parses a saved dollar amount in part of a string into cents, accepting any form of {@link BigDecimal}.
+     *
+     * @param text Text containing the amount
+     * @param start Index of the first character of the amount, surrounding whitespace allowed
+     * @param end Index just past the last character of the amount
+     * @return Amount in cents
+     * @throws NumberFormatException If that part of the text is not a number or is too large
+     */
+    public static long parseCentsLeniently(String text, int start, int end) throws NumberFormatException {
+        return parseCents(text, start, end, true);
+    }
+
+    private static long parseCents(String text, int start, int end, boolean isLenient)
+            throws NumberFormatException {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        boolean isNegative = false;
+        int position = start;
+        if (position < end && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+            isNegative = text.charAt(position) == '-';
+            position++;
+        }
+
+        long whole = 0;
+        int wholeDigits = 0;
+        while (position < end && isDigit(text.charAt(position))) {
+            whole = whole * 10 + (text.charAt(position) - '0');
+            wholeDigits++;
+            position++;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (position < end && text.charAt(position) == '.') {
+            position++;
+            while (position < end && isDigit(text.charAt(position))) {
+                fraction = fraction * 10 + (text.charAt(position) - '0');
+                fractionDigits++;
+                position++;
+            }
+        }
+
+        boolean isDecimal = position == end && wholeDigits > 0 && text.charAt(end - 1) != '.'
+                && text.charAt(start) != '+';
+        if (!isDecimal && !isLenient) {
+            throw new NumberFormatException("Not an amount: " + text.substring(start, end));
+        }
+        // Amounts with more than two decimal places need rounding, which the slower path does
+        if (!isDecimal || wholeDigits > MAX_WHOLE_DIGITS || fractionDigits > 2) {
+            return parseCentsSlowly(text.substring(start, end));
+        }
+
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+        long cents = whole * CENTS_PER_DOLLAR + fraction;
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Parses forms the fast path does not handle, such as more than two decimal places or exponents.
+     * The text must be a {@link BigDecimal}; it is rounded through its double value, as amounts were
+     * before they were held in cents, so that the same input is saved as the same number of cents.
+     */
+    private static long parseCentsSlowly(String text) throws NumberFormatException {
+        return roundToCents(new BigDecimal(text).doubleValue(), text);
+    }
+
+    /**
+     * Writes a dollar amount as decimal text without an exponent, so that {@link #parseCents} accepts it:
+     * 12.5 as "12.5" and 1.0E7 as "10000000".
+     *
+     * @param dollars Amount in dollars
+     * @return The shortest text that denotes the amount
+     * @throws NumberFormatException If the amount is not finite
+     */
+    public static String toText(double dollars) throws NumberFormatException {
+        return BigDecimal.valueOf(dollars).toPlainString();
+    }
+
+    /**
+     * Converts a dollar amount to cents, rounding it as {@link #parseCents} rounds the same amount written out,
+     * so that {@code toCents(0.125)} gives 12 cents like {@code parseCents("0.125")}.
+     *
+     * @param dollars Amount in dollars
+     * @return Amount in cents
+     * @throws NumberFormatException If the amount is not finite or is too large
+     */
+    public static long toCents(double dollars) throws NumberFormatException {
+        return roundToCents(dollars, Double.toString(dollars));
+    }
+
+    /**
+     * Rounds the exact value of a double to whole cents, with ties to even.
+     */
+    private static long roundToCents(double dollars, String text) throws NumberFormatException {
+        if (Double.isInfinite(dollars) || Double.isNaN(dollars)) {
+            throw new NumberFormatException("Amount is too large: " + text);
+        }
+        try {
+            return new BigDecimal(dollars).setScale(2, RoundingMode.HALF_EVEN)
+                    .movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount is too large: " + text);
+        }
+    }
+
+    /**
+     * @param cents Amount in cents
+     * @return Amount in dollars
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Appends an amount with exactly two decimal places, e.g. "12.50" or "-0.05".
+     *
+     * @param builder Builder to append to
+     * @param cents Amount in cents
+     * @return The same builder
+     */
+    public static StringBuilder appendTo(StringBuilder builder, long cents) {
+        if (cents < 0) {
+            builder.append('-');
+        }
+        long magnitude = Math.abs(cents);
+        long fraction = magnitude % CENTS_PER_DOLLAR;
+        builder.append(magnitude / CENTS_PER_DOLLAR).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+
+    /**
+     * Formats an amount with exactly two decimal places, matching {@code "%.2f"}.
+     *
+     * @param cents Amount in cents
+     * @return Formatted amount
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(24), cents).toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
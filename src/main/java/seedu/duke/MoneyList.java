@@ -1,16 +1,49 @@
 package seedu.duke;
 
 import java.util.ArrayList;
-import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 public class MoneyList {
     private static final int INDEX_OFFSET = 1;
+    private static final int SUMMARY_COLUMN_WIDTH = 10;
+    private static final int INITIAL_CATEGORY_CAPACITY = 16;
+    private static final String UNREADABLE_LEDGER_MESSAGE = "The saved entries could not be read, so this change "
+            + "is not saved, to avoid writing over them. Fix the saved file and restart to make it.";
 
-    private final ArrayList<String> moneyList;
+    // Deletes leave tombstones instead of shifting later entries down
+    private final EntryStore moneyList;
     private final HashMap<String, Budget> budgetList = new HashMap<>();
+    // Gives expense categories the ids that the totals and indexes below are keyed by
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+    // Running expense totals in cents and expense counts, indexed by category id
+    private long[] categoryExpenseTotals = new long[INITIAL_CATEGORY_CAPACITY];
+    private int[] categoryExpenseCounts = new int[INITIAL_CATEGORY_CAPACITY];
+    private long overallExpenseTotal = 0;
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final DateIndex dateIndex = new DateIndex(categoryDictionary);
+    // Expense totals by month and category, kept in step with moneyList
+    private final MonthlyRollup monthlyRollup = new MonthlyRollup(categoryDictionary);
+    // True while monthlyRollup also holds the saved totals of the entries in unloadedLedger
+    private boolean hasSavedRollup = false;
+    private int nextEntryId = 0;
+    // Saved entries opened by loadEntriesFromFile() but not read yet; null once they are in moneyList
+    private LazyLedger unloadedLedger;
+    // True once reading the saved entries failed; the saved files must then not be written over
+    private boolean hasLoadFailed = false;
+    // True if the saved entries could not even be opened, so the ids new entries must follow are unknown
+    private boolean hasOpenFailed = false;
+    // While deferred, changes are only marked unsaved until flushDeferredChanges()
+    private boolean isPersistenceDeferred = false;
+    private boolean hasUnsavedEntries = false;
+    private boolean hasUnsavedBudgets = false;
+    // While set, changes are handed to a background thread instead of being saved by the caller
+    private WriteBehindSaver writeBehindSaver;
     private final MTLogger logger;
     private final Storage storage;
     private final TextUI ui;
@@ -19,15 +52,131 @@ public class MoneyList {
      * Creates a MoneyList instance with the specified logger, storage, and UI handler.
      */
     public MoneyList(MTLogger logger, Storage storage, TextUI ui) {
-        this.moneyList = new ArrayList<>();
+        this.moneyList = new EntryStore();
         this.logger = logger;
         this.storage = storage;
         this.ui = ui;
     }
 
-    /** @return The list of all money entries (expenses/incomes) */
-    public ArrayList<String> getMoneyList() {
-        return moneyList;
+    /** @return A read-only view of all money entries (expenses/incomes) */
+    public List<Entry> getMoneyList() {
+        ensureLoaded();
+        return Collections.unmodifiableList(moneyList);
+    }
+
+    /**
+     * Inserts an already parsed entry at the end of the list without printing or saving it.
+     * @param entry The entry to insert
+     */
+    void addEntry(Entry entry) {
+        assert entry != null : "Entry should not be null";
+        entry.assignId(nextEntryId++);
+        moneyList.add(entry);
+        trackEntry(entry);
+    }
+
+    /**
+     * Inserts an entry that already has its id, such as a saved entry, at the end of the list.
+     * @param entry The entry to insert, with an id greater than that of every entry in the list
+     */
+    private void restoreEntry(Entry entry) {
+        nextEntryId = Math.max(nextEntryId, entry.getId() + 1);
+        moneyList.add(entry);
+        trackEntry(entry);
+    }
+
+    /**
+     * Replaces the entry at an index and updates the running totals.
+     * @param index Zero-based index of the entry to replace
+     * @param entry The new entry
+     * @return The entry that was replaced
+     */
+    private Entry replaceEntry(int index, Entry entry) {
+        Entry oldEntry = moneyList.set(index, entry);
+        // The replacement keeps its predecessor's id so it stays in list order
+        entry.assignId(oldEntry.getId());
+        keywordIndex.replace(oldEntry, entry);
+        untrackDateAndAmount(oldEntry);
+        trackDateAndAmount(entry);
+        return oldEntry;
+    }
+
+    /**
+     * Removes the entry at an index and updates the running totals.
+     * @param index Zero-based index of the entry to remove
+     * @return The removed entry
+     */
+    private Entry removeEntry(int index) {
+        Entry removed = moneyList.remove(index);
+        untrackEntry(removed);
+        return removed;
+    }
+
+    /**
+     * Adds an entry to the keyword and date indexes and its amount to the running expense totals.
+     * @param entry The entry added to the list
+     */
+    private void trackEntry(Entry entry) {
+        keywordIndex.add(entry);
+        trackDateAndAmount(entry);
+    }
+
+    /**
+     * Adds an entry to the date index and its amount to the running expense totals, but not to the keyword index.
+     * @param entry The entry added to the list
+     */
+    private void trackDateAndAmount(Entry entry) {
+        dateIndex.add(entry);
+        monthlyRollup.add(entry);
+        if (entry instanceof Expense expense) {
+            int categoryId = categoryDictionary.categoryIdOf(expense.getCategory());
+            if (categoryId >= categoryExpenseTotals.length) {
+                int capacity = Math.max(categoryId + 1, categoryExpenseTotals.length * 2);
+                categoryExpenseTotals = Arrays.copyOf(categoryExpenseTotals, capacity);
+                categoryExpenseCounts = Arrays.copyOf(categoryExpenseCounts, capacity);
+            }
+            overallExpenseTotal += expense.getAmountCents();
+            categoryExpenseTotals[categoryId] += expense.getAmountCents();
+            categoryExpenseCounts[categoryId]++;
+        }
+    }
+
+    /**
+     * Removes an entry from the keyword and date indexes and its amount from the running expense totals.
+     * @param entry The entry removed from the list
+     */
+    private void untrackEntry(Entry entry) {
+        keywordIndex.remove(entry);
+        untrackDateAndAmount(entry);
+    }
+
+    /**
+     * Removes an entry from the date index and its amount from the running expense totals,
+     * but not from the keyword index.
+     * @param entry The entry removed from the list
+     */
+    private void untrackDateAndAmount(Entry entry) {
+        dateIndex.remove(entry);
+        monthlyRollup.remove(entry);
+        if (entry instanceof Expense expense) {
+            overallExpenseTotal -= expense.getAmountCents();
+            int categoryId = categoryDictionary.categoryIdOf(expense.getCategory());
+            categoryExpenseTotals[categoryId] -= expense.getAmountCents();
+            categoryExpenseCounts[categoryId]--;
+        }
+    }
+
+    /**
+     * Finds the list position of an entry from its id.
+     * @param entry An entry in the list
+     * @return Zero-based index of the entry
+     */
+    private int positionOf(Entry entry) {
+        int position = moneyList.indexOfId(entry.getId());
+        if (position < 0) {
+            throw new IllegalStateException("Entry is not in the list: " + entry);
+        }
+        return position;
     }
 
     /** @return The map of budget categories to their Budget objects */
@@ -52,7 +201,7 @@ public class MoneyList {
      */
     private void validateIndex(int index) throws MTException {
         if (index < 0 || index >= moneyList.size()) {
-            logger.logWarning("Invalid index provided: " + index);
+            logger.logWarning("Invalid index provided: {0,number,#}", index);
             throw new MTException("Invalid or unavailable entry number.");
         }
     }
@@ -63,6 +212,8 @@ public class MoneyList {
      * @throws MTException If index is invalid or entry doesn't exist
      */
     public void deleteEntry(String input) throws MTException {
+        ensureLoaded();
+        ensureSavedEntriesRead();
         try {
             // Assert that the input is not null and starts with "delete"
             assert input != null : "Input should not be null";
@@ -74,14 +225,14 @@ public class MoneyList {
 
             // display entry before deletion
             ui.print("This entry will be permanently deleted:");
-            ui.print(moneyList.get(deleteIndex));
+            ui.print(moneyList.get(deleteIndex).toString());
 
             // remove entry from moneyList
-            moneyList.remove(deleteIndex);
-            logger.logInfo("Deleted entry at index: " + deleteIndex);
+            Entry removed = removeEntry(deleteIndex);
+            logger.logInfo("Deleted entry at index: {0,number,#}", deleteIndex);
 
             // save updated list
-            storage.saveExpenses(moneyList);
+            persistRemoval(removed);
             // print out number of items left in moneyList
             ui.printNumItems(moneyList.size());
         } catch (NumberFormatException error) {
@@ -91,13 +242,274 @@ public class MoneyList {
     }
 
     /**
-     * Loads all entries and budgets from storage file.
+     * Persists an entry appended to the end of the list.
+     * @param entry The added entry
+     * @throws MTException If saving fails
+     */
+    private void persistAddition(Entry entry) throws MTException {
+        if (isEntrySaveDeferred()) {
+            return;
+        }
+        if (!storage.isJournalEnabled()) {
+            saveFullLedger();
+            return;
+        }
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submitJournalRecord(Storage.addRecord(entry.getId(), entry.toString()));
+        } else {
+            storage.appendEntry(entry.getId(), entry.toString());
+        }
+        compactJournalIfDue();
+    }
+
+    /**
+     * Persists an entry replaced in place.
+     * @param entry The new entry, with the id of the entry it replaced
+     * @throws MTException If saving fails
+     */
+    private void persistReplacement(Entry entry) throws MTException {
+        ensureSavedEntriesRead();
+        if (isEntrySaveDeferred()) {
+            return;
+        }
+        if (!storage.isJournalEnabled()) {
+            saveFullLedger();
+            return;
+        }
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submitJournalRecord(Storage.replaceRecord(entry.getId(), entry.toString()));
+        } else {
+            storage.replaceEntry(entry.getId(), entry.toString());
+        }
+        compactJournalIfDue();
+    }
+
+    /**
+     * Persists the removal of an entry.
+     * @param removed The removed entry
+     * @throws MTException If saving fails
+     */
+    private void persistRemoval(Entry removed) throws MTException {
+        ensureSavedEntriesRead();
+        if (isEntrySaveDeferred()) {
+            return;
+        }
+        if (!storage.isJournalEnabled()) {
+            saveFullLedger();
+            return;
+        }
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submitJournalRecord(Storage.removeRecord(removed.getId()));
+        } else {
+            storage.removeEntry(removed.getId());
+        }
+        compactJournalIfDue();
+    }
+
+    /**
+     * Saves the full list, or marks it unsaved while persistence is deferred.
+     * @throws MTException If saving fails
+     */
+    private void persistLedger() throws MTException {
+        if (!isEntrySaveDeferred()) {
+            saveFullLedger();
+        }
+    }
+
+    /**
+     * Saves a changed budget by appending it to the budget file, or rewrites every budget once
+     * the file holds many outdated lines. Only marks budgets unsaved while persistence is deferred.
+     * @param budget The budget that was set
+     * @throws MTException If saving fails
+     */
+    private void persistBudget(Budget budget) throws MTException {
+        if (isPersistenceDeferred) {
+            hasUnsavedBudgets = true;
+            return;
+        }
+        boolean isCompactionDue = storage.isBudgetCompactionDue(budgetList.size());
+        if (writeBehindSaver != null) {
+            if (isCompactionDue) {
+                writeBehindSaver.submitBudgets(new HashMap<>(budgetList));
+            } else {
+                writeBehindSaver.submitBudget(budget);
+            }
+            return;
+        }
+        if (isCompactionDue) {
+            storage.saveBudgets(budgetList);
+        } else {
+            storage.appendBudgets(List.of(budget));
+        }
+    }
+
+    /**
+     * Refuses a change that could only be saved by writing over saved entries that could not be read,
+     * or that picks an entry by a number that no longer counts them.
+     * Appended entries are still accepted, as their journal records do not depend on the saved entries.
+     * @throws MTException If reading the saved entries failed
+     */
+    private void ensureSavedEntriesRead() throws MTException {
+        if (hasLoadFailed) {
+            throw new MTException(UNREADABLE_LEDGER_MESSAGE);
+        }
+    }
+
+    /**
+     * Refuses a new entry if the saved entries could not even be opened.
+     * Its id could then clash with a saved one, and the journal record would be dropped on the next load.
+     * @throws MTException If opening the saved entries failed
+     */
+    private void ensureSavedEntriesOpened() throws MTException {
+        if (hasOpenFailed) {
+            throw new MTException(UNREADABLE_LEDGER_MESSAGE);
+        }
+    }
+
+    /**
+     * Marks the entries unsaved if persistence is deferred.
+     * @return True if the caller should skip saving for now
+     */
+    private boolean isEntrySaveDeferred() {
+        if (isPersistenceDeferred) {
+            hasUnsavedEntries = true;
+        }
+        return isPersistenceDeferred;
+    }
+
+    /**
+     * Saves changes on a background thread from now on, so commands do not wait for the disk.
+     * Changes made while a save is being written are coalesced: full snapshots into one following
+     * snapshot, and journal records into one group commit.
+     * Call {@link #stopWriteBehind()} before exiting so that the last changes are written.
+     */
+    public void startWriteBehind() {
+        if (writeBehindSaver == null) {
+            writeBehindSaver = new WriteBehindSaver(storage, logger);
+        }
+    }
+
+    /**
+     * Waits for the write-behind thread to write every change, then stops it and resumes saving on the caller.
+     * @throws MTException If a background save failed
+     */
+    public void stopWriteBehind() throws MTException {
+        if (writeBehindSaver == null) {
+            return;
+        }
+        WriteBehindSaver saver = writeBehindSaver;
+        writeBehindSaver = null;
+        saver.close();
+    }
+
+    /**
+     * Reads the saved entries now instead of when a command first needs them.
+     * Used before deferring persistence, so that saved entries which cannot be read stop a run
+     * before any command is lost with them, rather than when its changes are written at the end.
+     * @throws MTException If the saved entries could not be opened or read
+     */
+    public void readSavedEntries() throws MTException {
+        ensureLoaded();
+        ensureSavedEntriesRead();
+    }
+
+    /**
+     * Stops saving after every change until {@link #flushDeferredChanges()} is called.
+     * Used when running many commands in one go, so the files are written once at the end.
+     */
+    public void deferPersistence() {
+        isPersistenceDeferred = true;
+    }
+
+    /**
+     * Writes any changes held back by {@link #deferPersistence()} and resumes saving after every change.
+     * Entries are written as one full snapshot.
+     * @throws MTException If saving fails
+     */
+    public void flushDeferredChanges() throws MTException {
+        isPersistenceDeferred = false;
+        if (hasUnsavedEntries) {
+            saveFullLedger();
+            hasUnsavedEntries = false;
+        }
+        if (hasUnsavedBudgets) {
+            storage.saveBudgets(budgetList);
+            hasUnsavedBudgets = false;
+        }
+    }
+
+    /**
+     * Saves the month by category totals next to the entries, so the next session can print a summary
+     * without reading the entries. Call it once every change has been saved.
+     * Nothing is saved if the totals of saved entries are unknown because they were never read or could not be.
+     * @throws MTException If saving fails
+     */
+    public void saveRollup() throws MTException {
+        if (hasLoadFailed || unloadedLedger != null && !hasSavedRollup) {
+            return;
+        }
+        storage.saveRollup(monthlyRollup);
+    }
+
+    /**
+     * Rewrites the full list as a new snapshot once the journal has grown long enough.
+     * If the saved entries cannot be read, the journal keeps growing instead, as a snapshot would lose them.
+     * @throws MTException If saving fails
+     */
+    private void compactJournalIfDue() throws MTException {
+        if (!storage.isCompactionDue()) {
+            return;
+        }
+        ensureLoaded();
+        if (hasLoadFailed) {
+            logger.logWarning("Not compacting the journal, as the saved entries could not be read.");
+            return;
+        }
+        logger.logInfo("Compacting journal into a new snapshot.");
+        saveFullLedger();
+    }
+
+    /**
+     * Writes every entry as a new snapshot, reading the saved entries first if needed.
+     * With write-behind running, a copy of the entries is handed to its thread instead.
+     * @throws MTException If saving fails, or the saved entries could not be read and would be lost
+     */
+    private void saveFullLedger() throws MTException {
+        ensureLoaded();
+        ensureSavedEntriesRead();
+        // Every entry is written anyway, so this is a cheap time to drop tombstones
+        moneyList.compact();
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submitLedger(new ArrayList<>(moneyList));
+            return;
+        }
+        storage.saveLedger(moneyList);
+    }
+
+    /**
+     * Loads budgets from storage and opens the saved entries.
+     * Only the number of entries is read here; the entries themselves are read the first
+     * time a command needs them, so adding an entry right after start-up does not wait for them.
+     * Month by category totals saved with the entries are read too, so a summary does not need them either.
+     * If the saved entries cannot be opened, the list is marked as failed to load before the error is thrown.
      * @throws MTException If file loading fails
      */
     public void loadEntriesFromFile() throws MTException {
-        ArrayList<String> loadedEntries = storage.loadEntries();
-        if (loadedEntries != null) {
-            moneyList.addAll(loadedEntries);
+        LazyLedger ledger;
+        try {
+            ledger = storage.openLedger();
+        } catch (MTException error) {
+            hasLoadFailed = true;
+            hasOpenFailed = true;
+            throw error;
+        }
+        unloadedLedger = ledger;
+        // Entries added before the saved ones are read are journaled with ids after theirs
+        nextEntryId = Math.max(nextEntryId, ledger.getNextEntryId());
+        MonthlyRollup savedRollup = ledger.isLoaded() ? null : storage.loadRollup(categoryDictionary);
+        if (savedRollup != null) {
+            savedRollup.forEachCell(monthlyRollup::add);
+            hasSavedRollup = true;
         }
 
         HashMap<String, Budget> loadedBudgets = storage.loadBudgets();
@@ -105,11 +517,49 @@ public class MoneyList {
             budgetList.putAll(loadedBudgets);
         }
 
-        // Assert that moneyList is not null
-        assert moneyList != null : "moneyList should not be null";
+        int entryCount = ledger.size() + moneyList.size();
+        logger.logInfo("Loaded {0,number,#} entries from file.", entryCount);
+        ui.print("Loaded " + entryCount + " entries from file.");
+    }
 
-        logger.logInfo("Loaded " + moneyList.size() + " entries from file.");
-        ui.print("Loaded " + moneyList.size() + " entries from file.");
+    /**
+     * Reads the saved entries opened by {@link #loadEntriesFromFile()} if that has not happened yet.
+     * Entries added in the meantime are kept after the saved ones, which is where they were journaled.
+     * Every entry keeps its id, as journal records name entries by id.
+     * If the saved entries cannot be read, the error is shown and only the added entries remain.
+     * The list is then marked as failed to load, so that nothing writes over the saved entries.
+     */
+    private void ensureLoaded() {
+        if (unloadedLedger == null) {
+            return;
+        }
+        LazyLedger ledger = unloadedLedger;
+        unloadedLedger = null;
+        hasSavedRollup = false;
+
+        ArrayList<Entry> addedEntries = new ArrayList<>(moneyList);
+        moneyList.clear();
+        Arrays.fill(categoryExpenseTotals, 0);
+        Arrays.fill(categoryExpenseCounts, 0);
+        overallExpenseTotal = 0;
+        keywordIndex.clear();
+        dateIndex.clear();
+        monthlyRollup.clear();
+        try {
+            List<Entry> loadedEntries = ledger.load();
+            moneyList.ensureCapacity(loadedEntries.size() + addedEntries.size());
+            for (Entry entry : loadedEntries) {
+                restoreEntry(entry);
+            }
+            logger.logInfo("Read {0,number,#} saved entries.", loadedEntries.size());
+        } catch (MTException error) {
+            hasLoadFailed = true;
+            logger.logSevere("Failed to read saved entries", error);
+            ui.printErrorMsg(error);
+        }
+        for (Entry entry : addedEntries) {
+            restoreEntry(entry);
+        }
     }
 
     //@@author Hansel-K
@@ -125,30 +575,26 @@ public class MoneyList {
 
             // Default parameters
             String description = "";
-            Double amount = 0.00;
+            long amountCents = 0;
             String category = "Uncategorized"; // Default category
 
             String date = "no date"; // Default date
 
-            if (input.contains("$/")) {
-                description = extractDescription(input);
-                String afterAmountPart = extractAfterAmountPart(input);
-
-                validateMarkers(afterAmountPart);
+            MarkerScanner markers = MarkerScanner.scanEntry(input, "addExp".length(), true);
+            if (markers.has(MarkerScanner.AMOUNT)) {
+                description = extractDescription(markers);
 
-                amount = extractAmount(afterAmountPart);
-                category = extractCategory(afterAmountPart);
-                date = extractDate(afterAmountPart);
+                validateMarkers(markers);
 
-                amount = formatAmount(amount);
-
-                logger.logInfo("Amount after formatting: " + amount);
+                amountCents = markers.centsOf(MarkerScanner.AMOUNT);
+                category = markers.valueOf(MarkerScanner.CATEGORY, category);
+                date = markers.valueOf(MarkerScanner.DATE, date);
             } else {
                 throw new MTException("Invalid format. Use: addExp <description> $/<amount> [c/<category>] [d/<date>]");
             }
 
-            validateAmount(amount);
-            saveExpense(description, amount, category, date);
+            validateAmount(amountCents);
+            saveExpense(description, amountCents, category, date);
         } catch (NumberFormatException error) {
             logger.logSevere("Invalid amount format: " + input, error);
             throw new MTException("Invalid amount format. Please ensure it is a numeric value.");
@@ -171,95 +617,36 @@ public class MoneyList {
 
     /**
      * Extracts description from expense input.
-     * @param input Raw user input
+     * @param markers Markers found in the raw user input
      * @return Isolated description text
      */
-    private String extractDescription(String input) {
-        String[] parts1 = input.substring(("addExp").length()).split("\\$/", 2);
-        String description = parts1[0].trim();
-        logger.logInfo("Description: " + description);
+    private String extractDescription(MarkerScanner markers) {
+        String description = markers.leadingText();
+        logger.logFine("Description: {0}", description);
         return description;
     }
 
-    /**
-     * Gets portion of input after amount marker.
-     * @param input Raw user input
-     * @return Substring after "$/"
-     */
-    private String extractAfterAmountPart(String input) {
-        return input.substring(("addExp").length()).split("\\$/", 2)[1];
-    }
-
     /**
      * Checks for duplicate category/date markers.
-     * @param afterAmountPart Input portion after amount
+     * @param markers Markers found in the raw user input
      * @throws MTException If duplicate markers found
      */
-    private void validateMarkers(String afterAmountPart) throws MTException {
-        if (afterAmountPart.split("c/").length - 1 > 1) {
+    private void validateMarkers(MarkerScanner markers) throws MTException {
+        if (markers.count(MarkerScanner.CATEGORY) > 1) {
             throw new MTException("Invalid format. Multiple category markers detected.");
         }
-        if (afterAmountPart.split("d/").length - 1 > 1) {
+        if (markers.count(MarkerScanner.DATE) > 1) {
             throw new MTException("Invalid format. Multiple date markers detected.");
         }
     }
 
-    /**
-     * Parses amount value from input segment.
-     * @param afterAmountPart Input portion containing amount
-     * @return Parsed double value
-     * @throws NumberFormatException If amount format invalid
-     */
-    private Double extractAmount(String afterAmountPart) throws NumberFormatException {
-        String amountString = afterAmountPart.split("c/|d/", 2)[0].trim();
-        if (amountString.matches("-?\\d+(\\.\\d+)?")) {
-            return Double.parseDouble(amountString);
-        } else {
-            throw new NumberFormatException("Invalid amount format: " + amountString);
-        }
-    }
-
-    /**
-     * Extracts category from input segment.
-     * @param afterAmountPart Input portion after amount
-     * @return Category name or "Uncategorized"
-     */
-    private String extractCategory(String afterAmountPart) {
-        if (afterAmountPart.contains("c/")) {
-            return afterAmountPart.split("c/")[1].split("d/", 2)[0].trim();
-        }
-        return "Uncategorized"; // Default category
-    }
-
-    /**
-     * Extracts date from input segment.
-     * @param afterAmountPart Input portion after amount
-     * @return Date string or "no date"
-     */
-    private String extractDate(String afterAmountPart) {
-        if (afterAmountPart.contains("d/")) {
-            return afterAmountPart.split("d/", 2)[1].trim();
-        }
-        return "no date"; // Default date
-    }
-
-    /**
-     * Formats amount to 2 decimal places.
-     * @param amount Raw amount value
-     * @return Formatted double value
-     */
-    private Double formatAmount(Double amount) {
-        DecimalFormat df = new DecimalFormat("#.00");
-        return Double.valueOf(df.format(amount));
-    }
-
     /**
      * Validates amount is positive.
-     * @param amount Value to check
+     * @param amountCents Value in cents to check
      * @throws MTException If amount ≤ 0
      */
-    private void validateAmount(Double amount) throws MTException {
-        if (amount <= 0) {
+    private void validateAmount(long amountCents) throws MTException {
+        if (amountCents <= 0) {
             throw new MTException("Amount must be greater than zero.");
         }
     }
@@ -267,17 +654,19 @@ public class MoneyList {
     /**
      * Creates and saves new expense entry.
      * @param description Expense description
-     * @param amount Formatted amount
+     * @param amountCents Amount in cents
      * @param category Expense category
      * @param date Expense date
      * @throws MTException If save fails
      */
-    private void saveExpense(String description, Double amount, String category, String date) throws MTException {
-        Expense newExpense = new Expense(description, amount, category, date);
-        moneyList.add(newExpense.toString()); // Add the expense to the money list
-        logger.logInfo("Added expense: " + newExpense); // Log the new expense
+    private void saveExpense(String description, long amountCents, String category, String date)
+            throws MTException {
+        ensureSavedEntriesOpened();
+        Expense newExpense = Expense.ofCents(description, amountCents, category, date);
+        addEntry(newExpense); // Add the expense to the money list
+        logger.logInfo("Added expense: {0}", newExpense); // Log the new expense
         ui.print("Expense added: " + newExpense); // Print confirmation to the user
-        storage.saveExpenses(moneyList); // Persist the expense data
+        persistAddition(newExpense); // Persist the expense data
     }
     //@@author
 
@@ -294,38 +683,26 @@ public class MoneyList {
             }
             input = input.trim();
 
-            if (!input.startsWith("addIncome") || !input.contains("$/")) {
+            MarkerScanner markers = MarkerScanner.scanEntry(input, "addIncome".length(), false);
+            if (!input.startsWith("addIncome") || !markers.has(MarkerScanner.AMOUNT)) {
                 throw new MTException("Invalid format. Use: addIncome <description> $/<amount> [d/<date>]");
             }
 
-            String content = input.substring("addIncome".length()).trim();
-
-            String[] parts = content.split("\\$/", 2);
-            String description = parts[0].trim();
-            String remainder = parts[1].trim();
+            String description = markers.leadingText();
+            long amountCents = markers.centsOf(MarkerScanner.AMOUNT);
+            // The date marker "d/" is optional
+            String date = markers.valueOf(MarkerScanner.DATE, "no date");
 
-            double amount = 0.0;
-            String date = "no date";
-
-            // Check if there's a date marker "d/" in the remainder
-            if (remainder.contains("d/")) {
-                String[] parts2 = remainder.split("d/", 2);
-                String amountString = parts2[0].trim();
-                amount = Double.parseDouble(amountString);
-                date = parts2[1].trim();
-            } else {
-                amount = Double.parseDouble(remainder.trim());
-            }
-
-            if (amount <= 0) {
+            if (amountCents <= 0) {
                 throw new MTException("Amount must be greater than zero.");
             }
 
-            Income newIncome = new Income(description, amount, date);
-            moneyList.add(newIncome.toString());
-            logger.logInfo("Added income: " + newIncome);
+            ensureSavedEntriesOpened();
+            Income newIncome = Income.ofCents(description, amountCents, date);
+            addEntry(newIncome);
+            logger.logInfo("Added income: {0}", newIncome);
             ui.print("Income added: " + newIncome);
-            storage.saveExpenses(moneyList);
+            persistAddition(newIncome);
         } catch (NumberFormatException error) {
             logger.logSevere("Invalid amount format in addIncome: " + input, error);
             throw new MTException("Invalid amount format. Please ensure it is a numeric value.");
@@ -344,23 +721,44 @@ public class MoneyList {
      * @param newAmount The new amount (optional).
      * @param newCat    The new category (optional).
      * @param newDate   The new date (optional).
-     * @throws MTException If the index is invalid or the entry is corrupted.
+     * @throws MTException If the index is invalid or the entry is not an expense.
      */
     public void editExpense(int index, String newDesc, Double newAmount,
                             String newCat, String newDate) throws MTException {
+        long newAmountCents = (newAmount == null || newAmount <= 0.00) ? 0 : Money.toCents(newAmount);
+        editExpense(index, newDesc, newAmountCents, newCat, newDate);
+    }
+
+    /**
+     * Edits an existing expense entry, with the new amount already parsed into cents.
+     *
+     * @param index          The index of the entry to be edited.
+     * @param newDesc        The new description (optional).
+     * @param newAmountCents The new amount in cents, or 0 or less to keep the old amount.
+     * @param newCat         The new category (optional).
+     * @param newDate        The new date (optional).
+     * @throws MTException If the index is invalid or the entry is not an expense.
+     */
+    public void editExpense(int index, String newDesc, long newAmountCents,
+                            String newCat, String newDate) throws MTException {
+        ensureLoaded();
+        ensureSavedEntriesRead();
         // Check if the provided index is within the bounds
         validateIndex(index);
 
-        // Get the old string entry and convert it to an Expense object
-        String oldEntry = moneyList.get(index);
-        Expense oldExpense = Expense.parseString(oldEntry);
+        // Only expenses carry a category, so incomes cannot be edited here
+        Entry oldEntry = moneyList.get(index);
+        if (!(oldEntry instanceof Expense)) {
+            throw new MTException("Only expense entries can be edited.");
+        }
+        Expense oldExpense = (Expense) oldEntry;
 
         // If no new description is provided, use the old one
         if (newDesc == null || newDesc.isEmpty()) {
             newDesc = oldExpense.getDescription();
         }
-        if (newAmount <= 0.00) {
-            newAmount = oldExpense.getAmount();
+        if (newAmountCents <= 0) {
+            newAmountCents = oldExpense.getAmountCents();
         }
         if (newCat == null || newCat.isEmpty()) {
             newCat = oldExpense.getCategory();
@@ -369,13 +767,12 @@ public class MoneyList {
             newDate = oldExpense.getDate();
         }
 
-        Expense updatedExpense = new Expense(newDesc, newAmount, newCat, newDate);
-        moneyList.set(index, updatedExpense.toString());
+        Expense updatedExpense = Expense.ofCents(newDesc, newAmountCents, newCat, newDate);
+        replaceEntry(index, updatedExpense);
 
-        moneyList.set(index, updatedExpense.toString());
         ui.print("Entry updated. " + updatedExpense);
-        logger.logInfo("Entry updated: " + updatedExpense);
-        storage.saveExpenses(moneyList);
+        logger.logInfo("Entry updated: {0}", updatedExpense);
+        persistReplacement(updatedExpense);
     }
 
     /**
@@ -384,14 +781,139 @@ public class MoneyList {
      * @throws MTException If the money list is empty.
      */
     public void listSummary() throws MTException {
+        ensureLoaded();
         if (moneyList.isEmpty()) {
             logger.logWarning("Expense list is empty.");
             throw new MTException("No entries available to display.");
         }
 
         ui.print("Expense list:");
-        for (int i = 0; i < moneyList.size(); i++) {
-            ui.print((i + INDEX_OFFSET) + ": " + moneyList.get(i));
+        int number = INDEX_OFFSET;
+        for (Entry entry : moneyList) {
+            ui.print((number++) + ": " + entry);
+        }
+    }
+
+    /**
+     * Lists the entries dated within a range, in date order, with their entry numbers.
+     * Only the days in the range are visited, through the date index.
+     *
+     * @param range Inclusive range of days
+     * @throws MTException If no entry is dated within the range.
+     */
+    public void listSummary(DateRange range) throws MTException {
+        ensureLoaded();
+        List<Entry> entries = dateIndex.find(range);
+        if (entries.isEmpty()) {
+            logger.logWarning("No entries dated {0}.", range);
+            throw new MTException("No entries dated " + range + ".");
+        }
+
+        ui.print("Entries dated " + range + ":");
+        for (Entry entry : entries) {
+            ui.print((positionOf(entry) + INDEX_OFFSET) + ": " + entry);
+        }
+    }
+
+    /**
+     * Lists one page, or the last few, of the entries with their entry numbers.
+     * Only the entries in the window are visited, so a page costs the same on a ledger of any size.
+     *
+     * @param window The entries to list
+     * @throws MTException If the money list is empty or the page is past the last one.
+     */
+    public void listSummary(ListWindow window) throws MTException {
+        ensureLoaded();
+        if (moneyList.isEmpty()) {
+            logger.logWarning("Expense list is empty.");
+            throw new MTException("No entries available to display.");
+        }
+        int entryCount = moneyList.size();
+        long firstIndex = window.firstIndex(entryCount);
+        if (firstIndex >= entryCount) {
+            throw new MTException("Page " + window.page() + " is past the end of the list, which has "
+                    + window.pageCount(entryCount) + " page(s) of " + window.size() + " entries.");
+        }
+
+        int first = (int) firstIndex;
+        int end = (int) Math.min(firstIndex + window.size(), entryCount);
+        ui.print("Entries " + (first + INDEX_OFFSET) + " to " + end + " of " + entryCount + ":");
+        Iterator<Entry> entries = moneyList.iterator(first);
+        for (int i = first; i < end; i++) {
+            ui.print((i + INDEX_OFFSET) + ": " + entries.next());
+        }
+    }
+
+    /**
+     * Writes every entry with its entry number to a text file, as {@link #listSummary()} would print them.
+     * Lines are streamed to the file one entry at a time instead of being printed or collected first.
+     *
+     * @param fileName File to write the listing to
+     * @throws MTException If the money list is empty or the file cannot be written.
+     */
+    public void listSummaryToFile(String fileName) throws MTException {
+        ensureLoaded();
+        if (moneyList.isEmpty()) {
+            logger.logWarning("Expense list is empty.");
+            throw new MTException("No entries available to display.");
+        }
+        storage.exportListing(moneyList, fileName);
+        logger.logInfo("Listed {0,number,#} entries to {1}", moneyList.size(), fileName);
+        ui.print("Listed " + moneyList.size() + " entries to " + fileName);
+    }
+
+    /**
+     * Prints expense totals as a table with a row per month and a column per category.
+     * Totals are kept up to date on every change, so this takes time in proportion to the
+     * number of cells rather than the number of entries.
+     *
+     * @throws MTException If there are no expenses.
+     */
+    public void printSummary() throws MTException {
+        if (!hasSavedRollup) {
+            ensureLoaded();
+        }
+        if (monthlyRollup.isEmpty()) {
+            throw new MTException("No expenses to summarise.");
+        }
+
+        List<Integer> categoryIds = monthlyRollup.getCategoryIds();
+        int[] widths = new int[categoryIds.size()];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = Math.max(SUMMARY_COLUMN_WIDTH, categoryDictionary.nameOf(categoryIds.get(i)).length());
+        }
+
+        StringBuilder row = new StringBuilder();
+        appendCell(row, "Month", SUMMARY_COLUMN_WIDTH);
+        for (int i = 0; i < widths.length; i++) {
+            appendCell(row, categoryDictionary.nameOf(categoryIds.get(i)), widths[i]);
+        }
+        appendCell(row, "Total", SUMMARY_COLUMN_WIDTH);
+        ui.print("Expenses by month and category:");
+        ui.print(row.toString().stripTrailing());
+
+        for (int month : monthlyRollup.getMonths()) {
+            row.setLength(0);
+            appendCell(row, MonthlyRollup.formatMonth(month), SUMMARY_COLUMN_WIDTH);
+            long monthTotal = 0;
+            for (int i = 0; i < widths.length; i++) {
+                int categoryId = categoryIds.get(i);
+                long cents = monthlyRollup.getCents(month, categoryId);
+                monthTotal += cents;
+                appendCell(row, monthlyRollup.hasCell(month, categoryId) ? Money.format(cents) : "-", widths[i]);
+            }
+            appendCell(row, Money.format(monthTotal), SUMMARY_COLUMN_WIDTH);
+            ui.print(row.toString().stripTrailing());
+        }
+    }
+
+    /**
+     * Appends text to a table row, padded to the column width and followed by a space.
+     */
+    private static void appendCell(StringBuilder row, String text, int width) {
+        row.append(text);
+        for (int i = text.length(); i <= width; i++) {
+            row.append(' ');
         }
     }
 
@@ -424,29 +946,24 @@ public class MoneyList {
     }
 
     /**
-     * Finds entries containing the search term.
+     * Finds entries whose description, category or date contains the search term.
+     * Uses the keyword index rather than scanning every entry.
      * @param input The keyword to search for
      * @throws MTException If no matches found
      */
     public void findEntry(String input) throws MTException {
+        ensureLoaded();
         // Validate the input for null, empty, or whitespace-only
         if (input == null || input.trim().isEmpty()) {
             logger.logWarning("Invalid substring provided.");
             throw new MTException("Please enter a keyword to search.");
         }
 
-        ArrayList<String> results = new ArrayList<>();
-
-        // Iterate through the moneyList to find case-insensitive matches
-        for (String entry : moneyList) {
-            if (entry.toLowerCase().contains(input.toLowerCase())) {
-                results.add(entry);
-            }
-        }
+        List<Entry> results = keywordIndex.find(input);
 
         // Handle the case when no matches are found
         if (results.isEmpty()) {
-            logger.logWarning("No matching entries found for keyword: " + input);
+            logger.logWarning("No matching entries found for keyword: {0}", input);
             throw new MTException("No matching entries found for keyword: " + input);
         }
 
@@ -458,7 +975,7 @@ public class MoneyList {
     }
 
     public void setCategoryLimit(String category, double amount) throws MTException {
-        setCategoryLimit(category, String.valueOf(amount));
+        setCategoryLimit(category, Money.toText(amount));
     }
 
     /**
@@ -472,25 +989,27 @@ public class MoneyList {
             throw new MTException("Budget amount cannot be empty.");
         }
 
-        double amount;
+        long amountCents;
 
         try {
-            amount = Double.parseDouble(amountStr.trim());
+            amountCents = Money.parseCents(amountStr);
         } catch (NumberFormatException e) {
             throw new MTException("Invalid amount. Please enter a valid number.");
         }
 
-        if (amount < 0) {
+        if (amountCents < 0) {
             throw new MTException("Category budget cannot be negative.");
         }
 
-        Budget budget = new Budget(category, amount);
-        budgetList.put(category, budget);
+        Budget budget = Budget.ofCents(category, amountCents);
+        // Keyed by the lower-case category, as checkExpenses and loadBudgets look it up
+        budgetList.put(budget.getCategory(), budget);
 
-        ui.print("Budget for category '" + category + "' set to $" + String.format("%.2f", amount));
-        logger.logInfo("Set budget: " + category + " = " + amount);
+        String formattedAmount = Money.format(amountCents);
+        ui.print("Budget for category '" + category + "' set to $" + formattedAmount);
+        logger.logInfo("Set budget: {0} = {1}", category, formattedAmount);
 
-        storage.saveBudgets(budgetList);
+        persistBudget(budget);
     }
 
     /**
@@ -510,6 +1029,39 @@ public class MoneyList {
         }
     }
 
+    /**
+     * Compares the expenses dated within a range against the budget for a category.
+     * Undated expenses are left out, and only the days in the range are visited.
+     * @param budgetInput Category name or "Overall" for total budget
+     * @param range Inclusive range of days
+     * @throws MTException If budget isn't set
+     */
+    public void checkExpenses(String budgetInput, DateRange range) throws MTException {
+        if (isEmptyOrNull(budgetInput)) {
+            throw new MTException("Please specify a category or use 'Overall'.");
+        }
+        ensureLoaded();
+
+        String category = isTotalBudgetCheck(budgetInput) ? null : budgetInput.trim().toLowerCase();
+        Budget budget = budgetList.get(category == null ? "Overall" : category);
+        if (budget == null) {
+            logger.logWarning("No budget set for {0}.", budgetInput);
+            throw new MTException(category == null ? "No Overall budget set." : "No category budget set.");
+        }
+
+        long spent;
+        if (category == null) {
+            spent = dateIndex.sumExpenseCents(range);
+        } else {
+            int categoryId = categoryDictionary.findCategoryId(category);
+            spent = categoryId == CategoryDictionary.NONE ? 0 : dateIndex.sumExpenseCents(range, categoryId);
+        }
+        ui.print("-------- EXPENSES DATED " + range.toString().toUpperCase() + " --------");
+        ui.print(budget.toString());
+        ui.print("Spent: $" + Money.format(spent));
+        ui.print("Remaining: $" + Money.format(budget.getAmountCents() - spent));
+    }
+
     /**
      * Checks if string is null/empty.
      * @param input String to check
@@ -538,8 +1090,7 @@ public class MoneyList {
             logger.logWarning("No Overall budget set.");
             throw new MTException("No Overall budget set.");
         }
-        double overallExpense = getTotalExpenseValue(null);
-        printTotalBudgetSummary(overAllBudget, overallExpense);
+        printTotalBudgetSummary(overAllBudget, getTotalExpenseCents(null));
     }
 
     /**
@@ -554,83 +1105,67 @@ public class MoneyList {
             throw new MTException("No category budget set.");
         }
 
-        double expenses = getTotalExpenseValue(category);
-        printCategoryBudgetSummary(categoryBudget, expenses);
+        printCategoryBudgetSummary(categoryBudget, getTotalExpenseCents(category));
     }
 
     /**
-     * Calculates total expenses for a category.
+     * Returns the running expense total for a category.
      * @param category Specific category or null for all expenses
-     * @return The summed expense amount
+     * @return The summed expense amount in dollars
      */
     public double getTotalExpenseValue(String category) {
-        double totalExpenses = 0.0;
-
-        for (String entry : moneyList) {
-            if (entry.startsWith("Expense: ")) {
-                try {
-                    Expense expense = Expense.parseString(entry);
-                    if (category == null || expense.getCategory().equalsIgnoreCase(category)) {
-                        totalExpenses += expense.getAmount();
-                    }
-                } catch (MTException e) {
-                    logger.logWarning("Skipping malformed expense entry: " + entry);
-                }
-            }
-        }
+        return Money.toDollars(getTotalExpenseCents(category));
+    }
 
-        return totalExpenses;
+    /**
+     * Returns the running expense total for a category.
+     * @param category Specific category or null for all expenses
+     * @return The exact summed expense amount in cents
+     */
+    public long getTotalExpenseCents(String category) {
+        ensureLoaded();
+        if (category == null) {
+            return overallExpenseTotal;
+        }
+        int categoryId = categoryDictionary.findCategoryId(category);
+        if (categoryId == CategoryDictionary.NONE || categoryId >= categoryExpenseTotals.length) {
+            return 0;
+        }
+        return categoryExpenseTotals[categoryId];
     }
 
     /**
      * Prints total budget summary comparison.
      * @param totalBudget Overall Budget object
-     * @param totalExpenses Calculated expense total
+     * @param totalExpenses Calculated expense total in cents
      */
-    private void printTotalBudgetSummary(Budget totalBudget, double totalExpenses) {
+    private void printTotalBudgetSummary(Budget totalBudget, long totalExpenses) {
         ui.print("-------- OVERALL BUDGET EXPENSES SUMMARY --------");
-        ui.print(String.format(totalBudget.toString()));
-        ui.print(String.format("Overall Expenses: $%.2f", totalExpenses));
-        ui.print(String.format("Remaining: $%.2f", totalBudget.getAmount() - totalExpenses));
+        ui.print(totalBudget.toString());
+        ui.print("Overall Expenses: $" + Money.format(totalExpenses));
+        ui.print("Remaining: $" + Money.format(totalBudget.getAmountCents() - totalExpenses));
     }
 
     /**
      * Prints category budget summary.
      * @param budget Category Budget object
-     * @param spent Calculated spending amount
+     * @param spent Calculated spending amount in cents
      */
-    private void printCategoryBudgetSummary(Budget budget, double spent) {
+    private void printCategoryBudgetSummary(Budget budget, long spent) {
         ui.print("-------- CATEGORY EXPENSES BUDGET CHECK --------");
         ui.print(budget.toString());
-        ui.print(String.format("Total Spent: $%.2f", spent));
-        ui.print(String.format("Remaining: $%.2f", budget.getAmount() - spent));
+        ui.print("Total Spent: $" + Money.format(spent));
+        ui.print("Remaining: $" + Money.format(budget.getAmountCents() - spent));
     }
     //@@author
 
     //@@author Hansel-K
     /** Displays the sum of all expenses */
     public void getTotalExpense() {
-        double total = 0.0;
-
-        for (String entry : moneyList) {
-            try {
-                // Split entry data to get entry amount
-                String[] parts1 = entry.split("\\$");
-                String[] parts2 = parts1[1].split("\\{");
-
-                if (parts1.length == 2 && parts2.length == 2) {
-                    double expenseAmount = Double.parseDouble(parts2[0].trim());
-                    logger.logInfo("Expense amount: " + expenseAmount);
-
-                    total += expenseAmount;
-                }
-            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-                logger.logWarning("Error parsing amount from entry: " + entry);
-            }
-        }
+        String total = Money.format(getTotalExpenseCents(null));
 
-        ui.print(String.format("Total expenses: $%.2f", total));
-        logger.logInfo("Total expense calculated: " + String.format("%.2f", total));
+        ui.print("Total expenses: $" + total);
+        logger.logInfo("Total expense calculated: {0}", total);
     }
 
     public void setTotalBudget(String input) throws MTException {
@@ -640,28 +1175,26 @@ public class MoneyList {
 
             // Extract the budget value after the command
             String budgetString = input.substring("setTotBgt".length()).trim();
-            Double budget = Double.parseDouble(budgetString);
+            // Rounded to whole cents while parsing
+            long budgetCents = Money.parseCents(budgetString);
 
             // Validate amount
-            if (budget < 0) {
-                logger.logWarning("Attempted to set a negative budget: " + budget);
+            if (budgetCents < 0) {
+                logger.logWarning("Attempted to set a negative budget: {0}", budgetString);
                 ui.print("Budget cannot be negative.");
                 return;
             }
 
-            // Format to 2 decimal places
-            DecimalFormat df = new DecimalFormat("#.00");
-            budget = Double.valueOf(df.format(budget));
-
             // Store as "TOTAL" category
-            Budget overallBudgetSet = new Budget("Overall", budget);
+            Budget overallBudgetSet = Budget.ofCents("Overall", budgetCents);
             budgetList.put("Overall", overallBudgetSet);
 
             // Save budgets to file
-            storage.saveBudgets(budgetList);
+            persistBudget(overallBudgetSet);
 
-            logger.logInfo(String.format("Total budget set to: $%.2f", budget));
-            ui.print(String.format("Total budget set to: $%.2f", budget));
+            String message = "Total budget set to: $" + Money.format(budgetCents);
+            logger.logInfo(message);
+            ui.print(message);
         } catch (NumberFormatException e) {
             logger.logSevere("Invalid budget format: " + input, e);
             throw new MTException("Invalid amount format. Please ensure it is a numeric value.");
@@ -681,6 +1214,7 @@ public class MoneyList {
     //@@author Hansel-K
     /** Displays all unique expense categories */
     public void listCats() {
+        ensureLoaded();
         try {
             // Check if the money list is empty
             if (moneyList.isEmpty()) {
@@ -714,41 +1248,21 @@ public class MoneyList {
     }
 
     /**
-     * Extracts unique categories from entries.
+     * Collects the categories that at least one expense uses, from the running counts per category id.
+     * Categories equal ignoring case are listed once, spelled as first seen, in the order they were first seen.
      * @return Set of unique category names
      */
     private LinkedHashSet<String> extractUniqueCategories() {
         LinkedHashSet<String> categories = new LinkedHashSet<>(); // To preserve order and ensure uniqueness
 
-        // Iterate through each entry in the money list
-        for (String entry : moneyList) {
-            try {
-                // Extract the category from the entry string
-                String category = extractCategoryFromEntry(entry);
-                categories.add(category); // Add the category to the set
-            } catch (Exception e) {
-                // Log a warning if category extraction fails
-                logger.logWarning("Error extracting category from entry: " + entry);
+        for (int categoryId = 0; categoryId < categoryExpenseCounts.length; categoryId++) {
+            if (categoryExpenseCounts[categoryId] > 0) {
+                categories.add(categoryDictionary.nameOf(categoryId));
             }
         }
         return categories; // Return the unique categories
     }
 
-    /**
-     * Parses category from entry string.
-     * @param entry Full entry string
-     * @return Extracted category name
-     */
-    private String extractCategoryFromEntry(String entry) {
-        // Extract the substring after "{" and trim any leading/trailing spaces
-        String beforeCat = entry.substring(entry.indexOf("{") + 1).trim();
-
-        // Split the string at "}" to get the category
-        String[] parts = beforeCat.split("}", 2);
-
-        return parts[0]; // Return the extracted category
-    }
-
     /**
      * Handles no-categories case.
      */
@@ -768,7 +1282,8 @@ public class MoneyList {
         for (String category : categories) {
             ui.print("- " + category);
         }
-        logger.logInfo("Displayed " + categories.size() + " unique categories."); // Log number of categories displayed
+        // Log number of categories displayed
+        logger.logInfo("Displayed {0,number,#} unique categories.", categories.size());
     }
 
     /**
@@ -788,6 +1303,8 @@ public class MoneyList {
      * @throws MTException if an error occurs while saving the cleared list to storage.
      */
     public void clearEntries() throws MTException {
+        ensureLoaded();
+        ensureSavedEntriesRead();
         // Check if the money list is empty
         if (moneyList.isEmpty()) {
             // Notify the user that there are no entries to clear
@@ -796,9 +1313,15 @@ public class MoneyList {
         }
         // Clear all entries from the money list
         moneyList.clear();
+        Arrays.fill(categoryExpenseTotals, 0);
+        Arrays.fill(categoryExpenseCounts, 0);
+        overallExpenseTotal = 0;
+        keywordIndex.clear();
+        dateIndex.clear();
+        monthlyRollup.clear();
 
         // Save the updated (now empty) money list to storage
-        storage.saveExpenses(moneyList);
+        persistLedger();
 
         // Log the action of clearing all entries for debugging and tracking purposes
         logger.logInfo("All entries have been cleared from the money list.");
@@ -807,4 +1330,18 @@ public class MoneyList {
         ui.print("All entries cleared");
     }
     //@@author
+
+    /**
+     * Writes every entry to a text file in the readable one-entry-per-line format.
+     * The saved ledger itself is not changed.
+     *
+     * @param fileName File to write the entries to
+     * @throws MTException If the file cannot be written
+     */
+    public void exportEntries(String fileName) throws MTException {
+        ensureLoaded();
+        storage.exportLedger(moneyList, fileName);
+        logger.logInfo("Exported {0,number,#} entries to {1}", moneyList.size(), fileName);
+        ui.print("Exported " + moneyList.size() + " entries to " + fileName);
+    }
 }
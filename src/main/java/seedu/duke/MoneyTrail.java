@@ -1,13 +1,23 @@
 package seedu.duke;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
  * Serves as the Main class for the MoneyTrail budget tracking application.
  * Handles program initialization and the main command loop.
+ * When started with a script file argument, runs the commands in that file instead.
  */
 public class MoneyTrail {
     private final MoneyList moneyList;
+    private final Storage storage;
     private final MTLogger logger;
     private final Scanner in;
     private final TextUI ui;
@@ -19,9 +29,10 @@ public class MoneyTrail {
      */
     public MoneyTrail() {
         this.in = new Scanner(System.in);
-        this.ui = new TextUI();
+        // Output is written once per command rather than once per line
+        this.ui = new TextUI(true, 0);
         this.logger = new MTLogger(MoneyTrail.class.getName());
-        Storage storage = new Storage();
+        this.storage = new Storage();
         this.moneyList = new MoneyList(logger, storage, ui);
         this.parser = new Parser();
     }
@@ -30,58 +41,259 @@ public class MoneyTrail {
     /**
      * Runs the main program loop.
      * Loads saved data and processes user commands until exit is requested.
+     * Changes are saved in the background while the loop runs and written out before returning.
      */
     public void run() {
         logger.logInfo("Starting CLI program.");
+        loadEntries();
 
+        ui.printWelcomeMsg();
+        ui.flush();
+
+        moneyList.startWriteBehind();
+        try {
+            boolean shouldExit = false;
+            while (!shouldExit) {
+                String input = in.nextLine().trim();
+
+                try {
+                    shouldExit = executeCommand(input);
+                } catch (MTException error) {
+                    logger.logWarning("Error processing command: {0}", error.getMessage());
+                    ui.printErrorMsg(error);
+                } finally {
+                    if (!shouldExit) {
+                        ui.addLineDivider();
+                        ui.printPromptMsg();
+                    }
+                    ui.flush();
+                }
+            }
+        } finally {
+            if (stopWriteBehind()) {
+                saveRollup();
+            }
+            syncSavedFiles();
+        }
+
+        ui.printExitMsg();
+        ui.flush();
+    }
+
+    /**
+     * Runs every command in a script file without prompts, one command per line.
+     * Blank lines and lines starting with '#' are skipped, and a failing command is reported
+     * with its line number without stopping the run. Changes are saved once, after the last command.
+     * The saved entries are read before the first command, and no command is run if they cannot be,
+     * as none of its changes could be saved. If saving fails at the end, the lines whose changes
+     * may be lost are reported.
+     *
+     * @param script Path of the script file
+     * @return True if the script was read and the changes saved, false otherwise
+     */
+    public boolean runBatch(Path script) {
+        logger.logInfo("Running batch script: {0}", script);
+        if (!loadEntries() || !readSavedEntries()) {
+            ui.print("No commands from " + script + " were run, as the saved entries could not be read.");
+            ui.flush();
+            return false;
+        }
+        moneyList.deferPersistence();
+
+        // Line numbers of the commands that succeeded, whose changes are only saved at the end
+        ArrayList<Integer> completedLines = new ArrayList<>();
+        int commandCount = 0;
+        int failureCount = 0;
+        boolean isComplete = true;
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            boolean shouldExit = false;
+            String line;
+            while (!shouldExit && (line = reader.readLine()) != null) {
+                lineNumber++;
+                String input = line.trim();
+                if (input.isEmpty() || input.startsWith("#")) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    shouldExit = executeCommand(input);
+                    completedLines.add(lineNumber);
+                } catch (MTException error) {
+                    failureCount++;
+                    logger.logWarning("Error processing line {0,number,#}: {1}", lineNumber, error.getMessage());
+                    ui.print("Line " + lineNumber + ": " + error.getMessage());
+                }
+                ui.flush();
+            }
+        } catch (IOException error) {
+            logger.logSevere("Error reading batch script " + script, error);
+            ui.print("Could not read script " + script + ": " + error.getMessage());
+            isComplete = false;
+        }
+
+        try {
+            moneyList.flushDeferredChanges();
+            saveRollup();
+        } catch (MTException error) {
+            logger.logSevere("Error saving batch changes: " + error.getMessage(), error);
+            ui.printErrorMsg(error);
+            ui.print("Changes from these lines may not have been saved: " + describeLines(completedLines));
+            isComplete = false;
+        }
+        if (!syncSavedFiles()) {
+            isComplete = false;
+        }
+
+        ui.print("Processed " + commandCount + " commands (" + failureCount + " failed).");
+        ui.flush();
+        return isComplete;
+    }
+
+    /**
+     * Waits for changes still being saved in the background, reporting any error to the user.
+     *
+     * @return True if every change was saved
+     */
+    private boolean stopWriteBehind() {
+        try {
+            moneyList.stopWriteBehind();
+            return true;
+        } catch (MTException error) {
+            logger.logSevere("Error saving changes: " + error.getMessage(), error);
+            ui.printErrorMsg(error);
+            return false;
+        }
+    }
+
+    /**
+     * Saves the month by category totals next to the entries, logging any error.
+     * Only called once every change has been saved, as the totals are stamped with the saved files.
+     * The totals can be rebuilt from the entries, so a failure is not shown to the user.
+     */
+    private void saveRollup() {
+        try {
+            moneyList.saveRollup();
+        } catch (MTException error) {
+            logger.logWarning("Error saving expense totals: {0}", error.getMessage());
+        }
+    }
+
+    /**
+     * Forces saved files to disk before exiting, reporting any error to the user.
+     *
+     * @return True if every file was synced
+     */
+    private boolean syncSavedFiles() {
+        try {
+            storage.sync();
+            return true;
+        } catch (MTException error) {
+            logger.logSevere("Error syncing saved files: " + error.getMessage(), error);
+            ui.printErrorMsg(error);
+            return false;
+        }
+    }
+
+    /**
+     * Loads saved entries, reporting any error to the user.
+     *
+     * @return True if the saved entries were opened
+     */
+    private boolean loadEntries() {
         try {
             moneyList.loadEntriesFromFile();
+            return true;
         } catch (MTException error) {
             logger.logSevere("Error loading entries from file: "
                     + error.getMessage(), error);
             ui.printErrorMsg(error);
+            return false;
         }
+    }
 
-        ui.printWelcomeMsg();
-
-        boolean shouldExit = false;
-        while (!shouldExit) {
-            String input = in.nextLine().trim();
+    /**
+     * Reads the saved entries opened by {@link #loadEntries()}; the error, if any, is shown as they are read.
+     *
+     * @return True if the saved entries were read
+     */
+    private boolean readSavedEntries() {
+        try {
+            moneyList.readSavedEntries();
+            return true;
+        } catch (MTException error) {
+            logger.logSevere("Error reading saved entries: " + error.getMessage(), error);
+            return false;
+        }
+    }
 
-            try {
-                Command command = parser.parseCommand(input);
+    /**
+     * Lists line numbers in ascending order, joining consecutive ones into ranges such as "3-7".
+     *
+     * @param lineNumbers Line numbers in ascending order
+     * @return The list, such as "1, 3-7, 9", or "none"
+     */
+    private static String describeLines(List<Integer> lineNumbers) {
+        if (lineNumbers.isEmpty()) {
+            return "none";
+        }
+        StringBuilder description = new StringBuilder();
+        int rangeStart = lineNumbers.get(0);
+        int previous = rangeStart;
+        for (int i = 1; i <= lineNumbers.size(); i++) {
+            int current = i < lineNumbers.size() ? lineNumbers.get(i) : -1;
+            if (current == previous + 1) {
+                previous = current;
+                continue;
+            }
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(rangeStart);
+            if (previous > rangeStart) {
+                description.append('-').append(previous);
+            }
+            rangeStart = current;
+            previous = current;
+        }
+        return description.toString();
+    }
 
-                // Handle the HelpCommand specifically since it needs UI access
-                if (command instanceof HelpCommand) {
-                    ui.showAllAvailableCommands();
-                } else {
-                    command.execute(moneyList);
-                }
+    /**
+     * Parses and executes a single command.
+     *
+     * @param input The command line, already trimmed
+     * @return True if the command asks the program to exit
+     * @throws MTException If the command is invalid or fails
+     */
+    private boolean executeCommand(String input) throws MTException {
+        Command command = parser.parseCommand(input);
 
-                shouldExit = command.shouldExit();
-            } catch (MTException error) {
-                logger.logWarning("Error processing command: " +
-                        error.getMessage());
-                ui.printErrorMsg(error);
-            } finally {
-                if (!shouldExit) {
-                    ui.addLineDivider();
-                    ui.printPromptMsg();
-                }
-            }
+        // Handle the HelpCommand specifically since it needs UI access
+        if (command instanceof HelpCommand) {
+            ui.showAllAvailableCommands();
+        } else {
+            command.execute(moneyList);
         }
 
-        ui.printExitMsg();
+        return command.shouldExit();
     }
 
     //@@author rchlai
     /**
      * Application entry point.
      *
-     * @param args Command-line arguments (unused)
+     * @param args Command-line arguments; an optional path to a script file to run in batch mode
      */
     public static void main(String[] args) {
-        new MoneyTrail().run();
+        if (args.length == 0) {
+            new MoneyTrail().run();
+            return;
+        }
+        boolean isComplete = new MoneyTrail().runBatch(Paths.get(args[0]));
+        if (!isComplete) {
+            System.exit(1);
+        }
     }
     //@@author
 }
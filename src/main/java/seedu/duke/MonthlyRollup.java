@@ -0,0 +1,206 @@
+package seedu.duke;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps the expense total of every (month, category) pair, updated one expense at a time,
+ * so that a month by category summary costs one lookup per cell instead of a pass over every entry.
+ * Months are numbered as year * 100 + month, e.g. 202503 for March 2025; expenses without a
+ * "yyyy-MM-dd" date are kept under {@link #NO_MONTH}. Categories are identified by their id in the
+ * {@link CategoryDictionary} the rollup is given, so categories equal ignoring case share a cell.
+ */
+public class MonthlyRollup {
+    /** Month of expenses whose date is free text or "no date"; sorts after every real month. */
+    public static final int NO_MONTH = Integer.MAX_VALUE;
+
+    // month -> category id -> {total in cents, number of expenses}
+    private final TreeMap<Integer, HashMap<Integer, long[]>> cellsByMonth = new TreeMap<>();
+    // category id -> number of months with expenses in it
+    private final HashMap<Integer, Integer> monthCountsByCategory = new HashMap<>();
+    private final CategoryDictionary categories;
+
+    /**
+     * @param categories Dictionary giving the category ids of expenses
+     */
+    public MonthlyRollup(CategoryDictionary categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * @param epochDay Days since 1970-01-01, or {@link EpochDays#NONE}
+     * @return The month the day falls in, or {@link #NO_MONTH}
+     */
+    public static int monthOf(int epochDay) {
+        if (epochDay == EpochDays.NONE) {
+            return NO_MONTH;
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    /**
+     * @param month A month numbered as by {@link #monthOf(int)}
+     * @return The month as "yyyy-MM", or "no date" for {@link #NO_MONTH}
+     */
+    public static String formatMonth(int month) {
+        if (month == NO_MONTH) {
+            return "no date";
+        }
+        return String.format("%04d-%02d", month / 100, month % 100);
+    }
+
+    /**
+     * Adds an expense to the total of its month and category; incomes are ignored.
+     *
+     * @param entry The entry added to the list
+     */
+    public void add(Entry entry) {
+        if (entry instanceof Expense expense) {
+            add(monthOf(expense.getEpochDay()), categories.categoryIdOf(expense.getCategory()),
+                    expense.getAmountCents(), 1);
+        }
+    }
+
+    /**
+     * Adds expenses to the total of a cell.
+     *
+     * @param month Month numbered as by {@link #monthOf(int)}
+     * @param categoryId Category id from the dictionary this rollup was given
+     * @param cents Amount to add in cents
+     * @param count Number of expenses the amount is made of
+     */
+    public void add(int month, int categoryId, long cents, long count) {
+        HashMap<Integer, long[]> cells = cellsByMonth.computeIfAbsent(month, m -> new HashMap<>());
+        long[] cell = cells.get(categoryId);
+        if (cell == null) {
+            cell = new long[2];
+            cells.put(categoryId, cell);
+            monthCountsByCategory.merge(categoryId, 1, Integer::sum);
+        }
+        cell[0] += cents;
+        cell[1] += count;
+    }
+
+    /**
+     * Takes an expense out of the total of its month and category; incomes are ignored.
+     *
+     * @param entry The entry removed from the list
+     */
+    public void remove(Entry entry) {
+        if (!(entry instanceof Expense expense)) {
+            return;
+        }
+        int month = monthOf(expense.getEpochDay());
+        int categoryId = categories.categoryIdOf(expense.getCategory());
+        HashMap<Integer, long[]> cells = cellsByMonth.get(month);
+        long[] cell = cells == null ? null : cells.get(categoryId);
+        if (cell == null) {
+            return;
+        }
+        cell[0] -= expense.getAmountCents();
+        if (--cell[1] > 0) {
+            return;
+        }
+        cells.remove(categoryId);
+        if (cells.isEmpty()) {
+            cellsByMonth.remove(month);
+        }
+        if (monthCountsByCategory.merge(categoryId, -1, Integer::sum) == 0) {
+            monthCountsByCategory.remove(categoryId);
+        }
+    }
+
+    /**
+     * Removes every total.
+     */
+    public void clear() {
+        cellsByMonth.clear();
+        monthCountsByCategory.clear();
+    }
+
+    /**
+     * @return True if no expense has been added
+     */
+    public boolean isEmpty() {
+        return cellsByMonth.isEmpty();
+    }
+
+    /**
+     * @return Months with expenses, in ascending order with {@link #NO_MONTH} last
+     */
+    public Set<Integer> getMonths() {
+        return cellsByMonth.keySet();
+    }
+
+    /**
+     * @return Ids of the categories with expenses, in alphabetical order of their names
+     */
+    public List<Integer> getCategoryIds() {
+        List<Integer> categoryIds = new ArrayList<>(monthCountsByCategory.keySet());
+        categoryIds.sort(Comparator.comparing(categories::lowerCaseNameOf));
+        return categoryIds;
+    }
+
+    /**
+     * @param categoryId Category id of a cell
+     * @return The category as first spelled by an expense
+     */
+    public String getCategoryName(int categoryId) {
+        return categories.nameOf(categoryId);
+    }
+
+    /**
+     * @param month Month numbered as by {@link #monthOf(int)}
+     * @param categoryId Category id from the dictionary this rollup was given
+     * @return Total expense of the cell in cents, or 0 if it has none
+     */
+    public long getCents(int month, int categoryId) {
+        HashMap<Integer, long[]> cells = cellsByMonth.get(month);
+        long[] cell = cells == null ? null : cells.get(categoryId);
+        return cell == null ? 0 : cell[0];
+    }
+
+    /**
+     * @param month Month numbered as by {@link #monthOf(int)}
+     * @param categoryId Category id from the dictionary this rollup was given
+     * @return True if the cell has at least one expense
+     */
+    public boolean hasCell(int month, int categoryId) {
+        HashMap<Integer, long[]> cells = cellsByMonth.get(month);
+        return cells != null && cells.containsKey(categoryId);
+    }
+
+    /**
+     * Visits every non-empty cell, month by month.
+     *
+     * @param visitor Receives each cell
+     */
+    public void forEachCell(CellVisitor visitor) {
+        for (Map.Entry<Integer, HashMap<Integer, long[]>> month : cellsByMonth.entrySet()) {
+            for (Map.Entry<Integer, long[]> cell : month.getValue().entrySet()) {
+                visitor.visit(month.getKey(), cell.getKey(), cell.getValue()[0], cell.getValue()[1]);
+            }
+        }
+    }
+
+    /**
+     * Receives the cells of a rollup.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        /**
+         * @param month Month numbered as by {@link #monthOf(int)}
+         * @param categoryId Category id from the dictionary this rollup was given
+         * @param cents Total expense of the cell in cents
+         * @param count Number of expenses in the cell
+         */
+        void visit(int month, int categoryId, long cents, long count);
+    }
+}
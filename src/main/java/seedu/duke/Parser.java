@@ -1,18 +1,80 @@
 package seedu.duke;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
 /**
  * Handles the parsing of user input and converts it into commands to be executed by MoneyTrail.
+ * The first word of the input is looked up in a table of command factories,
+ * so finding the command takes the same time however many commands there are.
  */
 public class Parser {
+    private static final Pattern NON_DIGITS = Pattern.compile("[^0-9]");
+    private static final String DEFAULT_EXPORT_FILE_NAME = "mt_export.txt";
+    private static final String LIST_FILE_PREFIX = "file/";
+
     private final MTLogger logger;
+    // Command keyword -> factory for that command
+    private final HashMap<String, CommandFactory> commandFactories = new HashMap<>();
+    // Lower-case keyword -> factory, for the commands matched ignoring case
+    private final HashMap<String, CommandFactory> caseInsensitiveFactories = new HashMap<>();
 
     //@@author limleyhooi
     /** Initializes a new Parser with a logger instance. */
     public Parser() {
         this.logger = new MTLogger(Parser.class.getName());
+        registerCommands();
     }
     //@@author
 
+    /**
+     * Fills the dispatch table with every supported command keyword.
+     * As before the table, "list" and the commands without arguments are matched ignoring case,
+     * while commands with arguments, such as "addExp", must be typed exactly.
+     */
+    private void registerCommands() {
+        registerIgnoringCase("list", this::createListCommand);
+        registerWithoutArguments("exit", ExitCommand::new);
+        registerWithoutArguments("listCat", ListCatsCommand::new);
+        registerWithoutArguments("listBgt", ListBudgetCommand::new);
+        registerWithoutArguments("help", HelpCommand::new);
+        registerWithoutArguments("clear", ClearListCommand::new);
+        registerWithoutArguments("summary", SummaryCommand::new);
+        registerWithoutArguments("totalExp", TotalExpenseCommand::new);
+        register("find", (input, arguments) -> createFindCommand(arguments));
+        register("check", (input, arguments) -> parserCheckExpenses(input));
+        register("del", (input, arguments) -> createDeleteCommand(arguments));
+        register("setTotBgt", (input, arguments) -> createBudgetCommand(arguments));
+        register("setCatBgt", (input, arguments) -> parseSetCategoryBudgetCommand(input));
+        register("addExp", (input, arguments) -> createAddExpenseCommand(arguments));
+        register("edit", (input, arguments) -> createEditExpenseCommand(arguments));
+        register("addIncome", (input, arguments) -> createAddIncomeCommand(arguments));
+        register("export", (input, arguments) ->
+                new ExportCommand(arguments.isEmpty() ? DEFAULT_EXPORT_FILE_NAME : arguments));
+    }
+
+    private void register(String keyword, CommandFactory factory) {
+        commandFactories.put(keyword, factory);
+    }
+
+    private void registerIgnoringCase(String keyword, CommandFactory factory) {
+        caseInsensitiveFactories.put(keyword.toLowerCase(Locale.ROOT), factory);
+    }
+
+    /**
+     * Registers a command that must be entered on its own, without arguments, in any case.
+     */
+    private void registerWithoutArguments(String keyword, Supplier<Command> constructor) {
+        registerIgnoringCase(keyword, (input, arguments) -> {
+            if (!arguments.isEmpty()) {
+                throw unknownCommand(input);
+            }
+            return constructor.get();
+        });
+    }
+
     //@@author limleyhooi
     /**
      * Parses raw user input into executable commands.
@@ -21,7 +83,7 @@ public class Parser {
      * @throws MTException If input is invalid/unsupported
      */
     public Command parseCommand(String input) throws MTException {
-        logger.logInfo("Parsing input: " + input);
+        logger.logInfo("Parsing input: {0}", input);
 
         if (isNullOrEmpty(input)) {
             throw new MTException("Please enter a valid command.");
@@ -47,88 +109,80 @@ public class Parser {
     //@@author limleyhooi
     /**
      * Creates the appropriate Command object based on input.
+     * Splits off the first word in a single pass and looks it up in the dispatch table,
+     * first as typed and then in lower case among the keywords matched ignoring case.
      * @param input The trimmed user input
      * @return Specific Command implementation
      * @throws MTException If no matching command is found
      */
     private Command createCommandFromInput(String input) throws MTException {
-        if (input.equalsIgnoreCase("list")) {
-            return new ListCommand();
+        int keywordEnd = 0;
+        while (keywordEnd < input.length() && !Character.isWhitespace(input.charAt(keywordEnd))) {
+            keywordEnd++;
         }
+        String keyword = input.substring(0, keywordEnd);
+        String arguments = input.substring(keywordEnd).trim();
 
-        if (input.equalsIgnoreCase("exit")) {
-            return new ExitCommand();
+        CommandFactory factory = commandFactories.get(keyword);
+        if (factory == null) {
+            factory = caseInsensitiveFactories.get(keyword.toLowerCase(Locale.ROOT));
         }
-
-        if (input.equalsIgnoreCase("listCat")) {
-            return new ListCatsCommand();
-        }
-
-        if (input.equalsIgnoreCase("listBgt")) {
-            return new ListBudgetCommand();
-        }
-
-        if (input.equalsIgnoreCase("help")) {
-            return new HelpCommand();
-        }
-
-        if (input.equalsIgnoreCase("clear")) {
-            return new ClearListCommand();
-        }
-
-        if (input.startsWith("totalExp ")) {
-            return new TotalExpenseCommand();
-        }
-
-        if (input.startsWith("find ")) {
-            return createFindCommand(input);
-        }
-
-        if (input.startsWith("check ")) {
-            return parserCheckExpenses(input);
-        }
-
-        if (input.startsWith("del ")) {
-            return createDeleteCommand(input);
+        if (factory == null) {
+            throw unknownCommand(input);
         }
+        return factory.create(input, arguments);
+    }
+    //@@author
 
-        if (input.startsWith("setTotBgt ")) {
-            return createBudgetCommand(input);
-        }
+    /**
+     * Logs and builds the error for input that is not a known command.
+     * @param input The trimmed user input
+     * @return The exception to throw
+     */
+    private MTException unknownCommand(String input) {
+        logger.logWarning("Unknown command: {0}", input);
+        return new MTException("Unknown command. Type 'help' for a " +
+                "list of available commands.");
+    }
 
-        if (input.startsWith("setCatBgt ")) {
-            return parseSetCategoryBudgetCommand(input);
+    /**
+     * Creates a command listing every entry, the entries dated within a range, one page of entries,
+     * or every entry written to a file.
+     * @param input The whole trimmed user input
+     * @param arguments The text after "list", e.g. "from/2025-03-01 to/2025-03-31", "page/2 size/50",
+     *                  "tail/20" or "file/list.txt"
+     * @return Configured list command
+     * @throws MTException If the arguments are not list options or the options are invalid
+     */
+    private Command createListCommand(String input, String arguments) throws MTException {
+        if (arguments.isEmpty()) {
+            return new ListCommand();
         }
-
-        if (input.startsWith("addExp ")) {
-            return createAddExpenseCommand(input);
+        if (arguments.startsWith(LIST_FILE_PREFIX)) {
+            String fileName = arguments.substring(LIST_FILE_PREFIX.length()).trim();
+            if (fileName.isEmpty()) {
+                throw new MTException("Use: list file/<FILE_NAME>");
+            }
+            return new ListToFileCommand(fileName);
         }
-
-        if (input.startsWith("edit ")) {
-            return createEditExpenseCommand(input);
+        if (ListWindow.isWindowOption(arguments)) {
+            return new ListWindowCommand(ListWindow.parse(arguments));
         }
-
-        if (input.startsWith("addIncome ")) {
-            return createAddIncomeCommand(input);
+        if (DateRange.optionsStart(arguments) != 0) {
+            throw unknownCommand(input);
         }
-
-        logger.logWarning("Unknown command: " + input);
-        throw new MTException("Unknown command. Type 'help' for a " +
-                "list of available commands.");
+        return new ListCommand(DateRange.parse(arguments));
     }
-    //@@author
 
     //@@author EdwinTun98
     /**
      * Parses user input to create a {@link FindCommand} with the provided keyword.
      *
-     * @param input The full user input string, expected to start with "find "
+     * @param keyword The text after "find", already trimmed
      * @return A {@link FindCommand} object initialized with the search keyword
      * @throws MTException If the keyword is missing or input is invalid
      */
-    private FindCommand createFindCommand(String input) throws MTException {
-        String keyword = input.substring(5).trim();
-
+    private FindCommand createFindCommand(String keyword) throws MTException {
         if (keyword.isEmpty()) {
             throw new MTException("Please enter a keyword to search.");
         }
@@ -140,14 +194,13 @@ public class Parser {
     //@@author limleyhooi
     /**
      * Creates a DeleteCommand with entry index.
-     * @param input The full input string starting with "del"
+     * @param arguments The text after "del"
      * @return Configured DeleteCommand
      * @throws MTException If index format is invalid
      */
-    private DeleteCommand createDeleteCommand(String input) throws MTException {
+    private DeleteCommand createDeleteCommand(String arguments) throws MTException {
         try {
-            int index = Integer.parseInt(input.replaceAll(
-                    "[^0-9]", "")) - 1;
+            int index = Integer.parseInt(NON_DIGITS.matcher(arguments).replaceAll("")) - 1;
 
             return new DeleteCommand(index);
         } catch (NumberFormatException error) {
@@ -159,20 +212,17 @@ public class Parser {
     //@@author limleyhooi
     /**
      * Creates a BudgetCommand for total budget.
-     * @param input The full input string starting with "setTotBgt"
+     * @param budgetString The text after "setTotBgt", already trimmed
      * @return Configured BudgetCommand
      * @throws MTException If amount is negative or invalid
      */
-    private BudgetCommand createBudgetCommand(String input) throws MTException {
+    private BudgetCommand createBudgetCommand(String budgetString) throws MTException {
         try {
-            String budgetString = input.substring("setTotBdt".length()).trim();
-            double budget = Double.parseDouble(budgetString);
-
-            if (budget < 0) {
+            if (Money.parseCents(budgetString) < 0) {
                 throw new MTException("Budget cannot be negative.");
             }
 
-            return new BudgetCommand(budget);
+            return new BudgetCommand(budgetString);
         } catch (NumberFormatException error) {
             throw new MTException("Invalid budget format. " +
                     "Please enter a valid number.");
@@ -183,14 +233,15 @@ public class Parser {
     //@@author Hansel-K
     /**
      * Creates an AddExpenseCommand.
-     * @param input The full input string starting with "addExp"
+     * @param arguments The text after "addExp"
      * @return Configured AddExpenseCommand
      * @throws MTException If format is invalid or amount is non-numeric
      */
-    private AddExpenseCommand createAddExpenseCommand(String input) throws MTException {
+    private AddExpenseCommand createAddExpenseCommand(String arguments) throws MTException {
         try {
-            validateAddExpenseFormat(input);
-            ExpenseData expenseData = parseExpenseData(input);
+            MarkerScanner markers = MarkerScanner.scanEntry(arguments, 0, true);
+            validateAddExpenseFormat(markers);
+            ExpenseData expenseData = parseExpenseData(markers);
 
             return new AddExpenseCommand(
                     expenseData.description,
@@ -212,11 +263,11 @@ public class Parser {
     /**
      * Validates the format of the input string for adding an expense.
      *
-     * @param input The full input string provided by the user.
+     * @param markers The markers found in the arguments provided by the user.
      * @throws MTException If the input format does not match the expected pattern.
      */
-    private void validateAddExpenseFormat(String input) throws MTException {
-        if (!input.startsWith("addExp") || !input.contains("$/")) {
+    private void validateAddExpenseFormat(MarkerScanner markers) throws MTException {
+        if (!markers.has(MarkerScanner.AMOUNT)) {
             throw new MTException("Invalid format. " +
                     "Use: addExp <description> $/<amount> [c/<category>] [d/<date>]");
         }
@@ -225,132 +276,57 @@ public class Parser {
 
     //@@author EdwinTun98
     /**
-     * Parses an input string into structured expense data.
+     * Parses the scanned arguments into structured expense data.
      *
-     * @param input The full input string starting with "addExp".
+     * @param markers The markers found in the arguments after "addExp".
      * @return An {@link ExpenseData} object containing parsed description, amount, category, and date.
      */
-    private ExpenseData parseExpenseData(String input) {
-        String content = input.substring("addExp".length()).trim();
-        String description = extractDescription(content);
-        String remainder = content.substring(
-                content.indexOf("$/") + 2).trim();
+    private ExpenseData parseExpenseData(MarkerScanner markers) {
+        String description = markers.leadingText();
 
         return new ExpenseData(
-                description,
-                extractAmount(remainder),
-                extractCategory(remainder),
-                extractDate(remainder)
+                description.isEmpty() ? "No description" : description,
+                checkedAmount(markers),
+                markers.valueOf(MarkerScanner.CATEGORY, "Uncategorized"),
+                markers.valueOf(MarkerScanner.DATE, "no date")
         );
     }
 
     /**
      * Parses the user's input to create a {@link CheckExpensesCommand}.
      *
+     * The category may be followed by "from/" and "to/" dates to check only that period.
+     *
      * @param input The full input string starting with "check".
-     * @return A {@link CheckExpensesCommand} with the parsed category.
-     * @throws MTException If the category is missing from the input.
+     * @return A {@link CheckExpensesCommand} with the parsed category and date range.
+     * @throws MTException If the category is missing from the input or the date range is invalid.
      */
     private CheckExpensesCommand parserCheckExpenses(String input) throws MTException {
         String trimmed = input.substring("check".length()).trim();
-        if (trimmed.isEmpty()) {
+        int optionsStart = DateRange.optionsStart(trimmed);
+        String category = trimmed.substring(0, optionsStart).trim();
+        if (category.isEmpty()) {
             throw new MTException("Missing category name. Usage: check c/<category or Total>");
         }
-
-        return new CheckExpensesCommand(trimmed);
-    }
-    //@@author
-
-    //@@author limleyhooi, EdwinTun98
-    /**
-     * Extracts description from input segment.
-     * @param content The input segment containing description
-     * @return Extracted description string
-     */
-    private String extractDescription(String content) {
-        int amountIndex = content.indexOf("$/");
-
-        return amountIndex > 0 ? content.substring(0, amountIndex)
-                .trim() : "No description";
-    }
-    //@@author
-
-    //@@author limleyhooi, EdwinTun98
-    /**
-     * Extracts numerical amount from input.
-     * @param remainder The input segment containing amount
-     * @return Parsed double value
-     */
-    private double extractAmount(String remainder) {
-        int categoryIndex = remainder.indexOf("c/");
-        int dateIndex = remainder.indexOf("d/");
-
-        String amountString = remainder.substring(
-                0,
-                Math.min(
-                        categoryIndex != -1 ? categoryIndex : remainder.length(),
-                        dateIndex != -1 ? dateIndex : remainder.length()
-                )
-        ).trim();
-
-        return Double.parseDouble(amountString);
-    }
-    //@@author
-
-    //@@author EdwinTun98, limleyhooi
-    /**
-     * Extracts category from input.
-     * @param remainder The input segment containing category
-     * @return Extracted category string ("Uncategorized" if missing)
-     */
-    private String extractCategory(String remainder) {
-        int categoryIndex = remainder.indexOf("c/");
-
-        if (categoryIndex == -1) {
-            return "Uncategorized";
-        }
-
-        int dateIndex = remainder.indexOf("d/");
-        int endIndex = dateIndex != -1 && dateIndex > categoryIndex ?
-                dateIndex : remainder.length();
-
-        return remainder.substring(categoryIndex + 2, endIndex).trim();
-    }
-    //@@author
-
-    //@@author EdwinTun98
-    /**
-     * Extracts date from input.
-     * @param remainder The input segment containing date
-     * @return Extracted date string ("no date" if missing)
-     */
-    private String extractDate(String remainder) {
-        int dateIndex = remainder.indexOf("d/");
-
-        if (dateIndex == -1) {
-            return "no date";
+        if (optionsStart == trimmed.length()) {
+            return new CheckExpensesCommand(category);
         }
 
-        int categoryIndex = remainder.indexOf("c/");
-        int endIndex = categoryIndex != -1 && categoryIndex >
-                dateIndex ? categoryIndex : remainder.length();
-
-        return remainder.substring(dateIndex + 2, endIndex).trim();
+        return new CheckExpensesCommand(category, DateRange.parse(trimmed.substring(optionsStart)));
     }
     //@@author
 
-
     //@@author EdwinTun98
     /**
      * Parses user input and creates an {@link EditExpenseCommand} object.
      *
-     * @param input The user input string that starts with "edit".
+     * @param arguments The text after "edit".
      * @return An {@link EditExpenseCommand} with parsed data.
      * @throws MTException If the input is in an invalid format or contains a number parsing error.
      */
-    private EditExpenseCommand createEditExpenseCommand(String input) throws MTException {
+    private EditExpenseCommand createEditExpenseCommand(String arguments) throws MTException {
         try {
-            EditCommandData editData = parseEditCommand(input);
+            EditCommandData editData = parseEditCommand(arguments);
 
             return new EditExpenseCommand(
                     editData.index,
@@ -372,12 +348,11 @@ public class Parser {
     //@@author EdwinTun98
     /**
      * Parses edit command components.
-     * @param input The full input string starting with "edit"
+     * @param afterEdit The text after "edit"
      * @return EditCommandData containing parsed components
      * @throws MTException If format is invalid
      */
-    private EditCommandData parseEditCommand(String input) throws MTException {
-        String afterEdit = input.substring("edit".length()).trim();
+    private EditCommandData parseEditCommand(String afterEdit) throws MTException {
         int firstSpace = afterEdit.indexOf(' ');
 
         if (firstSpace == -1) {
@@ -386,14 +361,14 @@ public class Parser {
         }
 
         int index = Integer.parseInt(afterEdit.substring(0, firstSpace)) - 1;
-        String rest = afterEdit.substring(firstSpace + 1).trim();
+        MarkerScanner markers = MarkerScanner.scanOptions(afterEdit, firstSpace + 1);
 
         return new EditCommandData(
                 index,
-                parseEditDescription(rest),
-                parseEditAmount(rest),
-                parseEditCategory(rest),
-                parseEditDate(rest)
+                parseEditDescription(markers),
+                parseEditAmount(markers),
+                markers.valueOf(MarkerScanner.CATEGORY),
+                markers.valueOf(MarkerScanner.DATE)
         );
     }
     //@@author
@@ -401,97 +376,28 @@ public class Parser {
     //@@author EdwinTun98
     /**
      * Parses description for edit commands.
-     * @param input The edit command segment
+     * @param markers The markers found in the edit command segment
      * @return Extracted description or null if not specified
      */
-    private String parseEditDescription(String input) {
-        if (!input.contains("$/")) {
-            int cIndex = input.indexOf("c/");
-            int dIndex = input.indexOf("d/");
-
-            if (cIndex == -1 && dIndex == -1) {
-                return input.trim();
-            }
-
-            int end = Math.min(
-                    cIndex != -1 ? cIndex : input.length(),
-                    dIndex != -1 ? dIndex : input.length()
-            );
-
-            return input.substring(0, end).trim();
-        }
-
-        return null;
-    }
-    //@@author EdwinTun98
-
-    //@@author EdwinTun98
-    /**
-     * Parses amount for edit commands.
-     * @param input The edit command segment
-     * @return Parsed amount or 0.00 if not specified
-     */
-    private double parseEditAmount(String input) {
-        if (!input.contains("$/")) {
-            return 0.00;
-        }
-
-        String afterDollar = input.substring(
-                input.indexOf("$/") + 2).trim();
-        int cIndex = afterDollar.indexOf("c/");
-        int dIndex = afterDollar.indexOf("d/");
-
-        String amountString = afterDollar.substring(
-                0,
-                Math.min(
-                        cIndex != -1 ? cIndex : afterDollar.length(),
-                        dIndex != -1 ? dIndex : afterDollar.length()
-                )
-        ).trim();
-
-        return amountString.isEmpty() ? 0.00 : Double.parseDouble(amountString);
-    }
-    //@@author
-
-    //@@author EdwinTun98
-    /**
-     * Parses category for edit commands.
-     * @param input The edit command segment
-     * @return Extracted category or null if not specified
-     */
-    private String parseEditCategory(String input) {
-        if (!input.contains("c/")) {
+    private String parseEditDescription(MarkerScanner markers) {
+        if (markers.has(MarkerScanner.AMOUNT)) {
             return null;
         }
 
-        int cIndex = input.indexOf("c/");
-        String afterCategory = input.substring(cIndex + 2).trim();
-
-        int dIndex = afterCategory.indexOf("d/");
-
-        return dIndex != -1 ? afterCategory.substring(0, dIndex)
-                .trim() : afterCategory.trim();
+        return markers.leadingText();
     }
     //@@author
 
     //@@author EdwinTun98
     /**
-     * Parses date for edit commands.
-     * @param input The edit command segment
-     * @return Extracted date or null if not specified
+     * Parses amount for edit commands.
+     * @param markers The markers found in the edit command segment
+     * @return Amount text, checked to be a number, or null if not specified
      */
-    private String parseEditDate(String input) {
-        if (!input.contains("d/")) {
-            return null;
-        }
-
-        int dIndex = input.indexOf("d/");
-        String afterDate = input.substring(dIndex + 2).trim();
+    private String parseEditAmount(MarkerScanner markers) {
+        String amountString = markers.valueOf(MarkerScanner.AMOUNT, "");
 
-        int cIndex = afterDate.indexOf("c/");
-
-        return cIndex != -1 ? afterDate.substring(0, cIndex)
-                .trim() : afterDate.trim();
+        return amountString.isEmpty() ? null : checkedAmount(markers);
     }
     //@@author
 
@@ -512,36 +418,37 @@ public class Parser {
             throw new MTException("Invalid format. Use: setCatBgt c/<category> <amount>");
         }
 
-        String[] parts = trimmedInput.split("\\s+", 2);
-        if (parts.length < 2) {
+        // The amount is the last word, so the category may contain spaces
+        int amountStart = trimmedInput.length();
+        while (amountStart > 0 && !Character.isWhitespace(trimmedInput.charAt(amountStart - 1))) {
+            amountStart--;
+        }
+        if (amountStart == 0) {
             throw new MTException("Missing amount. Use: setCatBgt c/<category> <amount>");
         }
 
-        String category = parts[0].substring(categoryPrefix.length()).trim();
-        String amountStr = parts[1].trim();
+        String category = trimmedInput.substring(categoryPrefix.length(), amountStart).trim();
+        String amountStr = trimmedInput.substring(amountStart);
 
         if (category.isEmpty()) {
             throw new MTException("Category name cannot be empty.");
         }
 
-        double amount = parseBudgetAmount(amountStr);
+        validateBudgetAmount(amountStr);
 
-        return new SetCategoryBudgetCommand(category, amount);
+        return new SetCategoryBudgetCommand(category, amountStr);
     }
 
     /**
-     * Parses and validates budget amount.
-     * @param amountStr The amount string to parse
-     * @return Parsed double value
+     * Validates budget amount.
+     * @param amountStr The amount string to check
      * @throws MTException If amount is negative or non-numeric
      */
-    private double parseBudgetAmount(String amountStr) throws MTException {
+    private void validateBudgetAmount(String amountStr) throws MTException {
         try {
-            double amount = Double.parseDouble(amountStr);
-            if (amount < 0) {
+            if (Money.parseCents(amountStr) < 0) {
                 throw new MTException("Budget cannot be negative.");
             }
-            return amount;
         } catch (NumberFormatException e) {
             throw new MTException("Invalid amount. Please enter a valid number.");
         }
@@ -551,13 +458,13 @@ public class Parser {
     //@@author limleyhooi
     /**
      * Creates an AddIncomeCommand.
-     * @param input The full input string starting with "addIncome"
+     * @param arguments The text after "addIncome"
      * @return Configured AddIncomeCommand
      * @throws MTException If format is invalid or amount is non-numeric
      */
-    private AddIncomeCommand createAddIncomeCommand(String input) throws MTException {
+    private AddIncomeCommand createAddIncomeCommand(String arguments) throws MTException {
         try {
-            IncomeData incomeData = parseIncomeData(input);
+            IncomeData incomeData = parseIncomeData(arguments);
 
             return new AddIncomeCommand(
                     incomeData.description,
@@ -574,45 +481,47 @@ public class Parser {
     //@@author limleyhooi
     /**
      * Parses income components from input.
-     * @param input The full input string starting with "addIncome"
+     * @param arguments The text after "addIncome"
      * @return IncomeData containing parsed components
      * @throws MTException If format is invalid
      */
-    private IncomeData parseIncomeData(String input) throws MTException {
-        String content = input.substring("addIncome".length()).trim();
-        String[] parts = content.split("\\$/", 2);
+    private IncomeData parseIncomeData(String arguments) throws MTException {
+        MarkerScanner markers = MarkerScanner.scanEntry(arguments, 0, false);
 
-        if (parts.length < 2) {
+        if (!markers.has(MarkerScanner.AMOUNT)) {
             throw new MTException("Invalid format. " +
                     "Use: addIncome <description> $/<amount> [d/<date>]");
         }
 
-        String description = parts[0].trim();
-        String remainder = parts[1].trim();
-        String date = "no date";
-        double amount;
-
-        if (remainder.contains("d/")) {
-            String[] amountAndDate = remainder.split("d/", 2);
-            amount = Double.parseDouble(amountAndDate[0].trim());
-            date = amountAndDate[1].trim();
-        } else {
-            amount = Double.parseDouble(remainder.trim());
-        }
-
-        return new IncomeData(description, amount, date);
+        return new IncomeData(
+                markers.leadingText(),
+                checkedAmount(markers),
+                markers.valueOf(MarkerScanner.DATE, "no date")
+        );
     }
     //@@author
 
+    /**
+     * Returns the text after the amount marker once it has been checked to be an amount.
+     * The text itself is passed on, so that it is rounded to cents only once, by {@link Money#parseCents}.
+     * @param markers The markers found in the arguments
+     * @return The amount as typed
+     * @throws NumberFormatException If the amount is missing or not a number
+     */
+    private static String checkedAmount(MarkerScanner markers) throws NumberFormatException {
+        markers.centsOf(MarkerScanner.AMOUNT);
+        return markers.valueOf(MarkerScanner.AMOUNT);
+    }
+
     //@@author EdwinTun98, limleyhooi
     /**
      * Immutable record holding parsed expense data.
      * @param description The expense description
-     * @param amount The expense amount
+     * @param amount The expense amount, as typed
      * @param category The expense category
      * @param date The expense date
      */
-    private record ExpenseData(String description, double amount, String category, String date) {
+    private record ExpenseData(String description, String amount, String category, String date) {
     }
     //@@author
 
@@ -621,11 +530,11 @@ public class Parser {
      * Immutable record holding parsed edit command data.
      * @param index The entry index to edit
      * @param description The new description (optional)
-     * @param amount The new amount (optional)
+     * @param amount The new amount, as typed (optional)
      * @param category The new category (optional)
      * @param date The new date (optional)
      */
-    private record EditCommandData(int index, String description, double amount, String category, String date) {
+    private record EditCommandData(int index, String description, String amount, String category, String date) {
     }
     //@@author
 
@@ -633,10 +542,25 @@ public class Parser {
     /**
      * Immutable record holding parsed income data.
      * @param description The income description
-     * @param amount The income amount
+     * @param amount The income amount, as typed
      * @param date The income date
      */
-    private record IncomeData(String description, double amount, String date) {
+    private record IncomeData(String description, String amount, String date) {
+    }
+    //@@author
+
+    /**
+     * Creates the command for one keyword of the dispatch table.
+     */
+    @FunctionalInterface
+    private interface CommandFactory {
+        /**
+         * @param input The whole trimmed user input
+         * @param arguments The input after the keyword, trimmed
+         * @return The parsed command
+         * @throws MTException If the arguments are invalid
+         */
+        Command create(String input, String arguments) throws MTException;
     }
     //@@author limleyhooi
 }
@@ -1,53 +1,406 @@
 package seedu.duke;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Scanner;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Handles loading and saving of entries to a text file.
+ * Handles loading and saving of entries.
+ * Entries are saved as a binary snapshot (see {@link LedgerSnapshot}); the older
+ * text file is still read if no binary snapshot exists yet, and can be written as an export.
+ * In journal mode, single-entry changes are appended to a journal file
+ * instead of rewriting the whole snapshot, and the journal is replayed
+ * on top of the snapshot when entries are loaded. Records name the entry they change by its id,
+ * which the snapshot saves with every entry, rather than by its position. Each record is marked with the journal
+ * generation of the snapshot it was made on top of, and every new snapshot gets a new generation,
+ * so records left behind by a crash just after a new snapshot was written are never replayed onto it.
+ * Every file is written through {@link DurableFiles}, so a crash mid-write leaves the
+ * previous version in place, and is forced to disk as often as the {@link SyncPolicy} asks.
  */
 public class Storage {
     // relative path of 'F:\repos\tp\mt.txt' directory
-    private static final String FILE_PATH = "mt.txt";
-    private static final String BUDGET_FILE_PATH = "budgets.txt";
+    private static final String FILE_NAME = "mt.txt";
+    // The text file is kept under this name once a snapshot holds its entries
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String SNAPSHOT_FILE_NAME = "mt.dat";
+    private static final String BUDGET_FILE_NAME = "budgets.txt";
+    private static final String JOURNAL_FILE_NAME = "mt.journal";
+    private static final String ROLLUP_FILE_NAME = "rollup.txt";
+    private static final String NO_MONTH_KEY = "none";
+    private static final String ADD_RECORD = "ADD";
+    private static final String SET_RECORD = "SET";
+    private static final String DEL_RECORD = "DEL";
+    private static final int COMPACTION_THRESHOLD = 1000;
+    // The snapshot on disk has not been opened or written yet, so its generation is not known
+    private static final int UNKNOWN_GENERATION = -1;
+    // The budget file is rewritten once it holds this many lines and at least twice as many as there are budgets
+    private static final int BUDGET_COMPACTION_MIN_LINES = 64;
+
     private final MTLogger logger;
+    private final String filePath;
+    private final String snapshotFilePath;
+    private final String budgetFilePath;
+    private final String journalFilePath;
+    private final String rollupFilePath;
+    private final boolean isJournalEnabled;
+    private final DurableFiles files;
+    private final JournalWriter journal;
+    // Updated by whichever thread writes the journal
+    private final AtomicInteger journalRecordCount = new AtomicInteger();
+    private final AtomicInteger budgetLineCount = new AtomicInteger();
+    // Journal generation of the snapshot on disk; updated by whichever thread writes the snapshot
+    private volatile int journalGeneration = UNKNOWN_GENERATION;
 
     //@@author rchlai
 
     /**
-     * Initializes a new Storage instance with a logger.
+     * Initializes a new Storage instance with a logger and journaling enabled.
      */
     public Storage() {
-        this.logger = new MTLogger(Storage.class.getName());
+        this(true);
     }
     //@@author
 
-    //@@author rchlai
+    /**
+     * Initializes a new Storage instance with a logger.
+     *
+     * @param isJournalEnabled True to append single-entry changes to a journal,
+     *                         false to rewrite the whole file on every change
+     */
+    public Storage(boolean isJournalEnabled) {
+        this.logger = new MTLogger(Storage.class.getName());
+        this.filePath = FILE_NAME;
+        this.snapshotFilePath = SNAPSHOT_FILE_NAME;
+        this.budgetFilePath = BUDGET_FILE_NAME;
+        this.journalFilePath = JOURNAL_FILE_NAME;
+        this.rollupFilePath = ROLLUP_FILE_NAME;
+        this.isJournalEnabled = isJournalEnabled;
+        this.files = new DurableFiles(SyncPolicy.fromProperty());
+        this.journal = new JournalWriter(files, Path.of(journalFilePath));
+    }
+
+    /**
+     * Initializes a new Storage instance that keeps its files in the given directory
+     * instead of the working directory.
+     *
+     * @param directory Directory holding the snapshot, journal and budget files
+     * @param isJournalEnabled True to append single-entry changes to a journal,
+     *                         false to rewrite the whole file on every change
+     */
+    public Storage(File directory, boolean isJournalEnabled) {
+        this(directory, isJournalEnabled, SyncPolicy.fromProperty());
+    }
+
+    /**
+     * Initializes a new Storage instance that keeps its files in the given directory
+     * and syncs them to disk as the given policy asks.
+     *
+     * @param directory Directory holding the snapshot, journal and budget files
+     * @param isJournalEnabled True to append single-entry changes to a journal,
+     *                         false to rewrite the whole file on every change
+     * @param syncPolicy Decides how often written files are forced to disk
+     */
+    public Storage(File directory, boolean isJournalEnabled, SyncPolicy syncPolicy) {
+        this.logger = new MTLogger(Storage.class.getName());
+        this.filePath = new File(directory, FILE_NAME).getPath();
+        this.snapshotFilePath = new File(directory, SNAPSHOT_FILE_NAME).getPath();
+        this.budgetFilePath = new File(directory, BUDGET_FILE_NAME).getPath();
+        this.journalFilePath = new File(directory, JOURNAL_FILE_NAME).getPath();
+        this.rollupFilePath = new File(directory, ROLLUP_FILE_NAME).getPath();
+        this.isJournalEnabled = isJournalEnabled;
+        this.files = new DurableFiles(syncPolicy);
+        this.journal = new JournalWriter(files, Path.of(journalFilePath));
+    }
+
+    /**
+     * @return True if single-entry changes should be journaled instead of saved in full
+     */
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    /**
+     * @return True once enough journal records have accumulated that the
+     *         journal should be compacted into a fresh snapshot
+     */
+    public boolean isCompactionDue() {
+        return journalRecordCount.get() >= COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * @param budgetCount Number of budgets currently set
+     * @return True once the budget file holds enough outdated lines that it should be rewritten
+     */
+    public boolean isBudgetCompactionDue(int budgetCount) {
+        return budgetLineCount.get() >= Math.max(BUDGET_COMPACTION_MIN_LINES, 2 * budgetCount);
+    }
 
     /**
-     * Saves all entries to the storage file.
+     * Saves all parsed entries to the binary snapshot file.
+     * The written file becomes the new snapshot, so any journal is discarded, and an older text file
+     * is renamed to mt.txt.bak, as it is no longer read.
+     * The snapshot has a newer journal generation than the one it replaces, so if the journal
+     * is still there after a crash, its records are not replayed onto the new snapshot.
      *
-     * @param moneyList List of entries to save
+     * @param entries List of entries to save
      * @throws MTException If there's an error writing to file
      */
-    public void saveExpenses(ArrayList<String> moneyList) throws MTException {
-        logger.logInfo("Saving entries into " + FILE_PATH);
+    public void saveLedger(List<? extends Entry> entries) throws MTException {
+        logger.logInfo("Saving entries into {0}", snapshotFilePath);
 
-        try (FileWriter writer = new FileWriter(FILE_PATH)) {
-            for (String entry : moneyList) {
-                writer.write(entry + "\n");
+        try {
+            int generation = nextJournalGeneration();
+            files.replace(Path.of(snapshotFilePath), out -> LedgerSnapshot.write(entries, generation, out));
+            journalGeneration = generation;
+        } catch (IOException error) {
+            logger.logSevere("Error saving entries into " + snapshotFilePath, error);
+            throw new MTException("Error saving entries: " + error.getMessage());
+        }
+        backUpTextFile();
+        discardJournal();
+    }
+
+    /**
+     * Renames the older text file aside once a snapshot holds its entries, rather than deleting it,
+     * so the user still has the data they upgraded from. A failure is only logged, as the text file
+     * is not read while there is a snapshot.
+     */
+    private void backUpTextFile() {
+        Path textFile = Path.of(filePath);
+        if (!Files.exists(textFile)) {
+            return;
+        }
+        Path backupFile = Path.of(filePath + BACKUP_SUFFIX);
+        try {
+            Files.move(textFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+            logger.logInfo("Kept the older text file as {0}", backupFile);
+        } catch (IOException error) {
+            logger.logWarning("Could not rename the older text file: {0}", error.getMessage());
+        }
+    }
+
+    /**
+     * Writes the entries in the readable text format, one per line, without
+     * changing the saved snapshot.
+     *
+     * @param entries Entries to export
+     * @param exportPath File to write
+     * @throws MTException If there's an error writing to file
+     */
+    public void exportLedger(List<? extends Entry> entries, String exportPath) throws MTException {
+        writeText(entries, exportPath, false);
+    }
+
+    /**
+     * Writes the entries as the list command prints them, one per line after its entry number.
+     *
+     * @param entries Entries to list
+     * @param listingPath File to write
+     * @throws MTException If there's an error writing to file
+     */
+    public void exportListing(List<? extends Entry> entries, String listingPath) throws MTException {
+        writeText(entries, listingPath, true);
+    }
+
+    /**
+     * Writes the string form of every entry, one per line, streaming each line to the file.
+     *
+     * @param entries Entries to write
+     * @param path File to write
+     * @param isNumbered True to start each line with the entry number, as in "3: "
+     * @throws MTException If there's an error writing to file
+     */
+    private void writeText(List<? extends Entry> entries, String path, boolean isNumbered) throws MTException {
+        logger.logInfo("Saving entries into {0}", path);
+
+        try {
+            files.replace(Path.of(path), out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                int number = 1;
+                for (Entry entry : entries) {
+                    if (isNumbered) {
+                        writer.write(Integer.toString(number++));
+                        writer.write(": ");
+                    }
+                    writer.write(entry.toString());
+                    writer.write('\n');
+                }
+                writer.flush();
+            });
+        } catch (IOException error) {
+            logger.logSevere("Error saving entries into " + path, error);
+            throw new MTException("Error saving entries: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Appends a record for a newly added entry to the journal.
+     *
+     * @param id Id of the entry, greater than that of every entry added before
+     * @param entry The entry added to the end of the list
+     * @throws MTException If there's an error writing to the journal
+     */
+    public void appendEntry(int id, String entry) throws MTException {
+        commitJournal(List.of(addRecord(id, entry)));
+    }
+
+    /**
+     * Appends a record for an edited entry to the journal.
+     *
+     * @param id Id of the replaced entry, which the new entry keeps
+     * @param entry The new entry
+     * @throws MTException If there's an error writing to the journal
+     */
+    public void replaceEntry(int id, String entry) throws MTException {
+        commitJournal(List.of(replaceRecord(id, entry)));
+    }
+
+    /**
+     * Appends a record for a deleted entry to the journal.
+     *
+     * @param id Id of the removed entry
+     * @throws MTException If there's an error writing to the journal
+     */
+    public void removeEntry(int id) throws MTException {
+        commitJournal(List.of(removeRecord(id)));
+    }
+
+    /**
+     * @param id Id of the entry, greater than that of every entry added before
+     * @param entry The entry added to the end of the list
+     * @return The journal record for the addition
+     */
+    static String addRecord(int id, String entry) {
+        return ADD_RECORD + " " + id + " " + entry;
+    }
+
+    /**
+     * @param id Id of the replaced entry, which the new entry keeps
+     * @param entry The new entry
+     * @return The journal record for the edit
+     */
+    static String replaceRecord(int id, String entry) {
+        return SET_RECORD + " " + id + " " + entry;
+    }
+
+    /**
+     * @param id Id of the removed entry
+     * @return The journal record for the deletion
+     */
+    static String removeRecord(int id) {
+        return DEL_RECORD + " " + id;
+    }
+
+    /**
+     * Appends records to the end of the journal as one group commit, returning once they are saved.
+     * Records committed at the same time from other threads share the same write and sync.
+     * Each record is marked with the journal generation of the saved snapshot.
+     *
+     * @param records Journal records built by {@link #addRecord}, {@link #replaceRecord} and {@link #removeRecord}
+     * @throws MTException If there's an error writing to the journal
+     */
+    public void commitJournal(List<String> records) throws MTException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            String generation = prepareJournal() + " ";
+            ArrayList<String> markedRecords = new ArrayList<>(records.size());
+            for (String record : records) {
+                markedRecords.add(generation + record);
             }
+            journal.commit(markedRecords);
+            journalRecordCount.addAndGet(records.size());
         } catch (IOException error) {
-            logger.logSevere("Error saving entries into " + FILE_PATH, error);
+            logger.logSevere("Error writing to " + journalFilePath, error);
+            throw new MTException("Error saving entries: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Finds the journal generation to mark new records with.
+     * A journal only makes sense on top of a snapshot, so an empty
+     * snapshot is created first if none exists yet.
+     *
+     * @return The journal generation of the saved snapshot
+     * @throws IOException If the snapshot cannot be written, or its header cannot be read
+     */
+    private synchronized int prepareJournal() throws IOException {
+        if (!new File(snapshotFilePath).exists() && !new File(filePath).exists()) {
+            discardJournal();
+            int generation = nextJournalGeneration();
+            files.replace(Path.of(snapshotFilePath), out -> LedgerSnapshot.write(List.of(), generation, out));
+            journalGeneration = generation;
+        } else if (journalGeneration == UNKNOWN_GENERATION) {
+            journalGeneration = readJournalGeneration();
+        }
+        return journalGeneration;
+    }
+
+    /**
+     * Picks the journal generation of a new snapshot: one after that of the snapshot it replaces,
+     * which is read from its header if this storage has not opened or written it.
+     *
+     * @return The generation
+     * @throws IOException If the saved snapshot header cannot be read
+     */
+    private int nextJournalGeneration() throws IOException {
+        int generation = journalGeneration;
+        if (generation == UNKNOWN_GENERATION) {
+            generation = readJournalGeneration();
+        }
+        return generation + 1;
+    }
+
+    /**
+     * @return The journal generation of the saved snapshot, or 0 if entries are saved as text or not at all
+     * @throws IOException If the snapshot header cannot be read
+     */
+    private int readJournalGeneration() throws IOException {
+        if (!new File(snapshotFilePath).exists()) {
+            return 0;
+        }
+        try {
+            return LedgerSnapshot.readHeader(Path.of(snapshotFilePath)).journalGeneration();
+        } catch (MTException error) {
+            throw new IOException(error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Deletes the journal once its records are covered by a snapshot.
+     */
+    private void discardJournal() {
+        new File(journalFilePath).delete();
+        journalRecordCount.set(0);
+    }
+
+    /**
+     * Forces every file written so far to disk, whatever the sync policy.
+     * Called on exit, so that changes the policy did not sync yet are not lost.
+     *
+     * @throws MTException If a file cannot be synced
+     */
+    public void sync() throws MTException {
+        try {
+            files.syncAll();
+        } catch (IOException error) {
+            logger.logSevere("Error syncing saved files", error);
             throw new MTException("Error saving entries: " + error.getMessage());
         }
     }
-    //@@author
 
     //@@author EdwinTun98
     /**
@@ -62,11 +415,16 @@ public class Storage {
             return;
         }
 
-        try (FileWriter writer = new FileWriter(BUDGET_FILE_PATH)) {
-            for (Budget budget : budgetList.values()) {
-                writer.write(budget.getCategory() + " " + budget.getAmount() + "\n");
-            }
-            logger.logInfo("Budgets successfully saved to " + BUDGET_FILE_PATH);
+        try {
+            files.replace(Path.of(budgetFilePath), out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                for (Budget budget : budgetList.values()) {
+                    writer.write(toBudgetLine(budget));
+                }
+                writer.flush();
+            });
+            budgetLineCount.set(budgetList.size());
+            logger.logInfo("Budgets successfully saved to {0}", budgetFilePath);
         } catch (IOException e) {
             logger.logSevere("Failed to save budgets", e);
             throw new MTException("Error saving budgets: " + e.getMessage());
@@ -74,67 +432,463 @@ public class Storage {
     }
     //@@author
 
-    //@@author rchlai
     /**
-     * Loads all entries from the storage file.
+     * Appends changed budgets to the end of the budget file without rewriting the others.
+     * When the file is loaded, a later line for a category replaces any earlier one.
      *
-     * @return List of loaded entries
+     * @param budgets Budgets that were set or changed
+     * @throws MTException If an I/O error occurs while saving the budgets
+     */
+    public void appendBudgets(List<Budget> budgets) throws MTException {
+        if (budgets.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Budget budget : budgets) {
+            lines.append(toBudgetLine(budget));
+        }
+        try {
+            files.append(Path.of(budgetFilePath), lines.toString());
+            budgetLineCount.addAndGet(budgets.size());
+        } catch (IOException error) {
+            logger.logSevere("Failed to save budgets", error);
+            throw new MTException("Error saving budgets: " + error.getMessage());
+        }
+    }
+
+    /**
+     * @param budget Budget to save
+     * @return The budget file line for the budget, ending with a line separator
+     */
+    private static String toBudgetLine(Budget budget) {
+        return budget.getCategory() + " " + Money.format(budget.getAmountCents()) + "\n";
+    }
+
+    /**
+     * Saves the month by category expense totals next to the ledger.
+     * The file starts with a stamp of the ledger files as they are now, so it is only used
+     * again while those files are unchanged. Call it once every change has been saved.
+     *
+     * @param rollup Totals of every saved entry
+     * @throws MTException If the file cannot be written
+     */
+    public void saveRollup(MonthlyRollup rollup) throws MTException {
+        try {
+            StringBuilder text = new StringBuilder(ledgerStamp()).append('\n');
+            rollup.forEachCell((month, categoryId, cents, count) -> text
+                    .append(month == MonthlyRollup.NO_MONTH ? NO_MONTH_KEY : Integer.toString(month))
+                    .append(' ').append(count).append(' ').append(cents)
+                    .append(' ').append(rollup.getCategoryName(categoryId)).append('\n'));
+            files.replace(Path.of(rollupFilePath), out -> out.write(text.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException error) {
+            logger.logSevere("Failed to save expense totals", error);
+            throw new MTException("Error saving expense totals: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Loads the month by category expense totals saved by {@link #saveRollup}.
+     * Totals saved before the ledger last changed, or that cannot be read, are ignored.
+     *
+     * @param categories Dictionary to give the saved categories their ids in
+     * @return The saved totals, or null if there are none that match the saved ledger
+     */
+    public MonthlyRollup loadRollup(CategoryDictionary categories) {
+        Path file = Path.of(rollupFilePath);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!ledgerStamp().equals(reader.readLine())) {
+                logger.logInfo("Saved expense totals are out of date.");
+                return null;
+            }
+            MonthlyRollup rollup = new MonthlyRollup(categories);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(" ", 4);
+                int month = fields[0].equals(NO_MONTH_KEY) ? MonthlyRollup.NO_MONTH : Integer.parseInt(fields[0]);
+                int categoryId = categories.categoryIdOf(fields[3]);
+                rollup.add(month, categoryId, Long.parseLong(fields[2]), Long.parseLong(fields[1]));
+            }
+            return rollup;
+        } catch (IOException | RuntimeException error) {
+            logger.logWarning("Ignoring unreadable expense totals: {0}", error.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Describes the saved ledger files by their sizes and modification times.
+     * Every save appends to or replaces one of them, which changes the stamp.
+     *
+     * @return The stamp
+     * @throws IOException If a file exists but cannot be inspected
+     */
+    private String ledgerStamp() throws IOException {
+        StringBuilder stamp = new StringBuilder();
+        for (String path : List.of(snapshotFilePath, filePath, journalFilePath)) {
+            Path file = Path.of(path);
+            if (Files.exists(file)) {
+                stamp.append(Files.size(file)).append(':').append(Files.getLastModifiedTime(file).toMillis());
+            } else {
+                stamp.append('-');
+            }
+            stamp.append(' ');
+        }
+        return stamp.toString().trim();
+    }
+
+    /**
+     * Parses all entries from the older text file, used while there is no binary snapshot yet,
+     * then replays the journal on top of them. The text file has journal generation 0, and its
+     * entries are given ids from 0 in file order, as a MoneyList gives them when it reads them.
+     * Text lines that cannot be parsed are logged and skipped before ids are given out.
+     *
+     * @return The opened ledger, empty if there is no text file either
      * @throws MTException If the file exists but cannot be read
      */
-    public ArrayList<String> loadEntries() throws MTException {
-        logger.logInfo("Loading previous entries from " + FILE_PATH);
+    private LazyLedger loadTextLedger() throws MTException {
+        ArrayList<Entry> entries;
+        if (new File(filePath).exists()) {
+            entries = readTextSnapshot();
+        } else {
+            entries = new ArrayList<>();
+        }
+        for (int id = 0; id < entries.size(); id++) {
+            entries.get(id).assignId(id);
+        }
+        journalGeneration = 0;
+        ArrayList<JournalRecord> records = readJournal(0);
+        return LazyLedger.of(applyJournal(entries, records), nextEntryIdAfterJournal(entries.size(), records));
+    }
 
-        ArrayList<String> entries = new ArrayList<>();
-        File file = new File(FILE_PATH);
+    /**
+     * Opens the saved entries without reading them all.
+     * For a binary snapshot only its header is read, together with the much smaller journal,
+     * so the number of entries is known straight away and the columns are only read and
+     * decoded when the returned ledger is first loaded. The older text file has no
+     * header to count from, so it is still read in full here.
+     *
+     * @return The opened ledger
+     * @throws MTException If the snapshot header or the journal cannot be read
+     */
+    public LazyLedger openLedger() throws MTException {
+        if (!new File(snapshotFilePath).exists()) {
+            return loadTextLedger();
+        }
 
-        if (!file.exists()) {
-            return entries;
+        LedgerSnapshot.Header header;
+        try {
+            header = LedgerSnapshot.readHeader(Path.of(snapshotFilePath));
+        } catch (IOException error) {
+            logger.logSevere("Failed to read " + snapshotFilePath, error);
+            throw new MTException("Error loading entries: " + error.getMessage());
+        }
+        journalGeneration = header.journalGeneration();
+        ArrayList<JournalRecord> records = readJournal(header.journalGeneration());
+        return new LazyLedger(countAfterJournal(header, records),
+                nextEntryIdAfterJournal(header.nextEntryId(), records),
+                () -> applyJournal(readBinarySnapshot(), records));
+    }
+
+    /**
+     * Reads every entry of the binary snapshot file.
+     *
+     * @return Entries of the snapshot
+     * @throws MTException If the file cannot be read or is not a valid snapshot
+     */
+    private ArrayList<Entry> readBinarySnapshot() throws MTException {
+        logger.logInfo("Loading previous entries from {0}", snapshotFilePath);
+
+        try {
+            return LedgerSnapshot.read(Path.of(snapshotFilePath));
+        } catch (IOException error) {
+            logger.logSevere("Failed to read " + snapshotFilePath, error);
+            throw new MTException("Error loading entries: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Parses every entry of the older text storage file directly from its bytes.
+     * Lines that cannot be parsed are logged and skipped.
+     *
+     * @return Entries of the snapshot
+     * @throws MTException If the file cannot be read
+     */
+    private ArrayList<Entry> readTextSnapshot() throws MTException {
+        logger.logInfo("Loading previous entries from {0}", filePath);
+
+        TextLedgerReader reader = new TextLedgerReader(line -> logger.logFine("Skipping malformed entry: {0}", line));
+        ArrayList<Entry> entries;
+        try {
+            entries = reader.read(Path.of(filePath));
+        } catch (IOException error) {
+            logger.logSevere("Failed to read " + filePath, error);
+            throw new MTException("Error loading entries: " + error.getMessage());
+        }
+        if (reader.getSkippedCount() > 0) {
+            logger.logWarning("Skipped {0,number,#} malformed entries in {1}", reader.getSkippedCount(), filePath);
         }
+        return entries;
+    }
 
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                entries.add(scanner.nextLine());
+    /**
+     * Parses an entry carried by a journal record.
+     *
+     * @param line Entry string from the journal
+     * @return The parsed entry
+     * @throws IllegalArgumentException If the entry cannot be parsed
+     */
+    private static Entry decodeJournalEntry(String line) {
+        try {
+            return Entry.parseString(line);
+        } catch (MTException error) {
+            throw new IllegalArgumentException(error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Reads and decodes the records of the journal made on top of the saved snapshot, without applying them.
+     * Records of an older generation, which the snapshot already holds, and records that cannot be
+     * decoded are logged and skipped.
+     *
+     * @param generation Journal generation of the saved snapshot
+     * @return The decoded records, in journal order
+     * @throws MTException If the journal exists but cannot be read
+     */
+    private ArrayList<JournalRecord> readJournal(int generation) throws MTException {
+        journalRecordCount.set(0);
+        ArrayList<JournalRecord> records = new ArrayList<>();
+        File journal = new File(journalFilePath);
+        if (!journal.exists()) {
+            return records;
+        }
+
+        int skippedCount = 0;
+        int staleCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journal.toPath(), StandardCharsets.UTF_8)) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                journalRecordCount.incrementAndGet();
+                try {
+                    int split = record.indexOf(' ');
+                    if (Integer.parseInt(record, 0, split, 10) != generation) {
+                        staleCount++;
+                        continue;
+                    }
+                    records.add(decodeJournalRecord(record.substring(split + 1)));
+                } catch (RuntimeException error) {
+                    skippedCount++;
+                    logger.logFine("Skipping unreadable journal record: {0}", record);
+                }
             }
-        } catch (FileNotFoundException error) {
-            logger.logSevere("Failed to find file at " + FILE_PATH, error);
-            throw new MTException("File not found. Starting with an empty list.");
+        } catch (NoSuchFileException error) {
+            logger.logSevere("Failed to find file at " + journalFilePath, error);
+            throw new MTException("Journal not found. Starting from the last saved entries.");
+        } catch (IOException error) {
+            logger.logSevere("Failed to read " + journalFilePath, error);
+            throw new MTException("Error loading entries: " + error.getMessage());
+        }
+        if (skippedCount > 0) {
+            logger.logWarning("Skipped {0,number,#} unreadable journal records", skippedCount);
+        }
+        if (staleCount > 0) {
+            logger.logWarning("Skipped {0,number,#} journal records already in the snapshot", staleCount);
+        }
+        logger.logInfo("Replayed {0,number,#} journal records.", records.size());
+        return records;
+    }
+
+    /**
+     * Decodes a single journal record. The entry of an "ADD" or "SET" record is given the record's id.
+     *
+     * @param record Journal record in the form "ADD id entry", "SET id entry" or "DEL id",
+     *     without its generation
+     * @return The decoded record
+     * @throws RuntimeException If the record cannot be decoded
+     */
+    private static JournalRecord decodeJournalRecord(String record) {
+        String[] parts = record.split(" ", 3);
+        int id = Integer.parseInt(parts[1].trim());
+        switch (parts[0]) {
+        case ADD_RECORD:
+        case SET_RECORD:
+            Entry entry = decodeJournalEntry(parts[2]);
+            entry.assignId(id);
+            return new JournalRecord(parts[0], id, entry);
+        case DEL_RECORD:
+            return new JournalRecord(DEL_RECORD, id, null);
+        default:
+            throw new IllegalArgumentException("Unknown journal record: " + parts[0]);
+        }
+    }
+
+    /**
+     * Applies decoded journal records, in order, to the entries of the snapshot.
+     * Each record finds its entry by id in an {@link EntryStore}, so a delete leaves a tombstone
+     * instead of shifting the later entries. Records for an id that no entry has,
+     * and additions whose id is not above every earlier one, are logged and skipped.
+     *
+     * @param snapshotEntries Entries of the snapshot, in list order, with their ids
+     * @param records Records read from the journal
+     * @return The entries once every record is applied
+     */
+    private EntryStore applyJournal(List<Entry> snapshotEntries, List<JournalRecord> records) {
+        EntryStore entries = new EntryStore();
+        entries.ensureCapacity(snapshotEntries.size() + records.size());
+        for (Entry entry : snapshotEntries) {
+            entries.add(entry);
+        }
+        int skippedCount = 0;
+        for (JournalRecord record : records) {
+            boolean isApplied;
+            switch (record.type()) {
+            case ADD_RECORD:
+                isApplied = entries.acceptsId(record.id());
+                if (isApplied) {
+                    entries.add(record.entry());
+                }
+                break;
+            case SET_RECORD:
+                isApplied = entries.setById(record.entry()) != null;
+                break;
+            default:
+                isApplied = entries.removeById(record.id()) != null;
+                break;
+            }
+            if (!isApplied) {
+                skippedCount++;
+                logger.logFine("Skipping journal record for missing entry {0,number,#}", record.id());
+            }
+        }
+        if (skippedCount > 0) {
+            logger.logWarning("Skipped {0,number,#} unreadable journal records", skippedCount);
         }
         return entries;
     }
 
+    /**
+     * Works out how many entries there will be once the journal records are applied, without
+     * reading the snapshot's entries. Every id below the snapshot's next entry id is taken to be
+     * in the snapshot until it is deleted, which holds for every journal written against it.
+     *
+     * @param header Header of the snapshot
+     * @param records Records read from the journal
+     * @return Number of entries after the journal is applied
+     */
+    private static int countAfterJournal(LedgerSnapshot.Header header, List<JournalRecord> records) {
+        int size = header.rowCount();
+        int lastId = header.nextEntryId() - 1;
+        HashSet<Integer> liveAddedIds = new HashSet<>();
+        HashSet<Integer> deletedIds = new HashSet<>();
+        for (JournalRecord record : records) {
+            if (record.type().equals(ADD_RECORD) && record.id() > lastId) {
+                lastId = record.id();
+                liveAddedIds.add(record.id());
+                size++;
+            } else if (record.type().equals(DEL_RECORD) && (liveAddedIds.remove(record.id())
+                    || record.id() >= 0 && record.id() < header.nextEntryId() && deletedIds.add(record.id()))) {
+                size--;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @param snapshotNextEntryId One more than the largest entry id in the snapshot
+     * @param records Records read from the journal
+     * @return One more than the largest entry id in the snapshot or added by the journal
+     */
+    private static int nextEntryIdAfterJournal(int snapshotNextEntryId, List<JournalRecord> records) {
+        int nextEntryId = snapshotNextEntryId;
+        for (JournalRecord record : records) {
+            if (record.type().equals(ADD_RECORD)) {
+                nextEntryId = Math.max(nextEntryId, record.id() + 1);
+            }
+        }
+        return nextEntryId;
+    }
+
     //@@author EdwinTun98
     /**
      * Loads budgets from a file and returns them as a HashMap.
+     * Each line holds a category, which may contain spaces, followed by an amount; a later line
+     * for a category replaces an earlier one. Lines that cannot be read are logged and skipped.
      *
      * @return A HashMap where keys are budget categories and values are Budget objects.
-     * @throws MTException If the budget file is not found or contains corrupted entries.
+     * @throws MTException If the budget file exists but cannot be read.
      */
     public HashMap<String, Budget> loadBudgets() throws MTException {
         HashMap<String, Budget> budgets = new HashMap<>();
-        File file = new File(BUDGET_FILE_PATH);
+        File file = new File(budgetFilePath);
+        budgetLineCount.set(0);
 
         if (!file.exists()) {
             return budgets;
         }
 
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine().trim();
-                String[] parts = line.split("\\s+", 2);
-                if (parts.length == 2) {
-                    String category = parts[0];
-                    double amount = Double.parseDouble(parts[1]);
-                    budgets.put(category, new Budget(category, amount));
+        int lineCount = 0;
+        int skippedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                Budget budget = parseBudgetLine(line);
+                if (budget == null) {
+                    skippedCount++;
+                    logger.logFine("Skipping malformed budget: {0}", line);
+                    continue;
                 }
+                // Budget lower-cases its category, but the overall budget is looked up as "Overall"
+                String key = budget.getCategory().equalsIgnoreCase(Budget.OVERALL)
+                        ? Budget.OVERALL : budget.getCategory();
+                budgets.put(key, budget);
             }
-        } catch (FileNotFoundException e) {
+        } catch (NoSuchFileException e) {
             logger.logSevere("Budget file not found", e);
             throw new MTException("Budgets file not found.");
-        } catch (NumberFormatException e) {
-            throw new MTException("Corrupted budget entry: " + e.getMessage());
+        } catch (IOException e) {
+            logger.logSevere("Failed to read " + budgetFilePath, e);
+            throw new MTException("Error loading budgets: " + e.getMessage());
         }
-
+        if (skippedCount > 0) {
+            logger.logWarning("Skipped {0,number,#} malformed budgets in {1}", skippedCount, budgetFilePath);
+        }
+        budgetLineCount.set(lineCount);
         return budgets;
     }
+
+    /**
+     * Parses a budget file line, splitting the category from the amount at the last space.
+     *
+     * @param line Line of the budget file
+     * @return The budget, or null if the line is malformed
+     */
+    private static Budget parseBudgetLine(String line) {
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        int split = end - 1;
+        while (split >= 0 && !Character.isWhitespace(line.charAt(split))) {
+            split--;
+        }
+        String category = split > 0 ? line.substring(0, split).trim() : "";
+        if (category.isEmpty()) {
+            return null;
+        }
+        try {
+            return Budget.ofCents(category, Money.parseCentsLeniently(line, split + 1, end));
+        } catch (NumberFormatException | MTException e) {
+            return null;
+        }
+    }
     //@@author
+
+    /**
+     * A decoded journal record, naming its entry by id. The entry is unused by "DEL" records.
+     */
+    private record JournalRecord(String type, int id, Entry entry) {
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.duke;
+
+/**
+ * Decides how often saved files are forced to disk with fsync.
+ * Syncing after every write survives a power loss without losing any change, but makes each
+ * save wait for the disk; syncing less often trades the last few changes for faster saves.
+ * The policy is read from the system property "moneytrail.sync": "always" (the default),
+ * "exit", or a number of milliseconds between syncs.
+ * An interval is only checked when a file is written: there is no timer, so the first write at least
+ * the interval after the last sync syncs every file written since, and writes followed by a quiet
+ * spell stay unsynced until the next write or exit.
+ */
+public final class SyncPolicy {
+    private static final String SYNC_PROPERTY = "moneytrail.sync";
+
+    private final Mode mode;
+    private final long intervalMillis;
+
+    private SyncPolicy(Mode mode, long intervalMillis) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * @return A policy that syncs every write before it returns
+     */
+    public static SyncPolicy everyWrite() {
+        return new SyncPolicy(Mode.EVERY_WRITE, 0);
+    }
+
+    /**
+     * @param intervalMillis Minimum time between syncs, in milliseconds
+     * @return A policy that syncs on the first write at least the interval after the last sync, and on exit
+     */
+    public static SyncPolicy everyInterval(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            return everyWrite();
+        }
+        return new SyncPolicy(Mode.INTERVAL, intervalMillis);
+    }
+
+    /**
+     * @return A policy that only syncs on exit
+     */
+    public static SyncPolicy onExit() {
+        return new SyncPolicy(Mode.ON_EXIT, 0);
+    }
+
+    /**
+     * @return The policy named by the sync property, or {@link #everyWrite()} if it is unset or invalid
+     */
+    public static SyncPolicy fromProperty() {
+        String value = System.getProperty(SYNC_PROPERTY, "always").trim();
+        if (value.equalsIgnoreCase("exit")) {
+            return onExit();
+        }
+        try {
+            return everyInterval(Long.parseLong(value));
+        } catch (NumberFormatException error) {
+            return everyWrite();
+        }
+    }
+
+    /**
+     * @param millisSinceLastSync Time since files were last synced
+     * @return True if a write made now should be synced straight away
+     */
+    public boolean isSyncDue(long millisSinceLastSync) {
+        switch (mode) {
+        case EVERY_WRITE:
+            return true;
+        case INTERVAL:
+            return millisSinceLastSync >= intervalMillis;
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+        case EVERY_WRITE:
+            return "every write";
+        case INTERVAL:
+            return "first write after " + intervalMillis + " ms";
+        default:
+            return "on exit";
+        }
+    }
+
+    private enum Mode {
+        EVERY_WRITE,
+        INTERVAL,
+        ON_EXIT
+    }
+}
@@ -0,0 +1,324 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Parses entries saved in the text format, one {@link Entry#toString()} per line,
+ * straight from the bytes of the file.
+ * Line boundaries and the "$", "{", "}", "[" and "]" delimiters are found by scanning bytes,
+ * so only the description, category and date of each entry are decoded into strings.
+ * Large files are memory-mapped a window at a time (see {@link FileBuffers}),
+ * and each window is split into chunks at line boundaries that are parsed in parallel
+ * on a fork-join pool, then joined back together in file order.
+ */
+public class TextLedgerReader {
+    // Window size when mapping large files; a window always ends at a line boundary
+    private static final long MAX_WINDOW_BYTES = 256L * 1024 * 1024;
+    // Approximate size of the part of a window parsed by one task
+    private static final int CHUNK_BYTES = 4 * 1024 * 1024;
+    private static final byte[] EXPENSE_PREFIX = "Expense: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INCOME_PREFIX = "Income: ".getBytes(StandardCharsets.US_ASCII);
+    // Keeps the cents of a fast-parsed amount well inside the range of a long
+    private static final int MAX_FAST_WHOLE_DIGITS = 15;
+
+    private final Consumer<String> malformedLineHandler;
+    private final long mappingThreshold;
+    private final long windowBytes;
+    private final int chunkBytes;
+    private final ForkJoinPool pool;
+    private int skippedCount;
+
+    /**
+     * Creates a reader that parses large files on the common fork-join pool.
+     *
+     * @param malformedLineHandler Called with each line that is not a valid entry;
+     *                             may be called from several threads at once
+     */
+    public TextLedgerReader(Consumer<String> malformedLineHandler) {
+        this(malformedLineHandler, FileBuffers.MAPPING_THRESHOLD, MAX_WINDOW_BYTES, CHUNK_BYTES,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a reader with its own sizes and pool, so that tests can map and split small files.
+     *
+     * @param malformedLineHandler Called with each line that is not a valid entry
+     * @param mappingThreshold Files at least this large are memory-mapped
+     * @param windowBytes Most bytes mapped at a time
+     * @param chunkBytes Approximate number of bytes parsed by one task
+     * @param pool Pool to parse chunks on; chunks are parsed in turn if it has a parallelism of one
+     */
+    TextLedgerReader(Consumer<String> malformedLineHandler, long mappingThreshold, long windowBytes,
+            int chunkBytes, ForkJoinPool pool) {
+        this.malformedLineHandler = malformedLineHandler;
+        this.mappingThreshold = mappingThreshold;
+        this.windowBytes = windowBytes;
+        this.chunkBytes = chunkBytes;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads and parses every line of a text ledger file.
+     * Lines that are not valid entries are passed to the handler and skipped.
+     *
+     * @param file File to read
+     * @return The parsed entries, in file order
+     * @throws IOException If the file cannot be read, or holds a line longer than a mapping window
+     */
+    public ArrayList<Entry> read(Path file) throws IOException {
+        ArrayList<Entry> entries = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < mappingThreshold) {
+                ByteBuffer buffer = FileBuffers.read(file);
+                parseLines(buffer, 0, buffer.limit(), entries);
+                return entries;
+            }
+
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(windowBytes, size - position);
+                ByteBuffer window = FileBuffers.map(channel, position, length);
+                int end = (int) length;
+                if (position + length < size) {
+                    end = lastIndexOf(window, (byte) '\n', end) + 1;
+                    if (end == 0) {
+                        throw new IOException("Line is too long at byte " + position + " of " + file);
+                    }
+                }
+                parseLines(window, 0, end, entries);
+                position += end;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return Number of lines skipped so far because they were not valid entries
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Parses the lines in part of a buffer, adding each valid entry to the list in order.
+     * Large ranges are split at line boundaries into chunks that are parsed in parallel.
+     *
+     * @param buffer Bytes of the file
+     * @param start Index of the first byte of the first line
+     * @param end Index just past the last line
+     * @param entries List to add the parsed entries to
+     */
+    public void parseLines(ByteBuffer buffer, int start, int end, List<Entry> entries) {
+        if (end - start < 2L * chunkBytes || pool.getParallelism() <= 1) {
+            skippedCount += parseChunk(buffer, start, end, entries);
+            return;
+        }
+
+        List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>();
+        int chunkStart = start;
+        while (chunkStart < end) {
+            int newline = indexOf(buffer, (byte) '\n', (int) Math.min(end, (long) chunkStart + chunkBytes), end);
+            int chunkEnd = newline < 0 ? end : newline + 1;
+            int from = chunkStart;
+            // Each task reads through its own view, so no buffer state is shared between threads
+            ByteBuffer view = buffer.duplicate();
+            tasks.add(pool.submit(() -> {
+                ArrayList<Entry> chunkEntries = new ArrayList<>();
+                int chunkSkipped = parseChunk(view, from, chunkEnd, chunkEntries);
+                return new ChunkResult(chunkEntries, chunkSkipped);
+            }));
+            chunkStart = chunkEnd;
+        }
+        for (ForkJoinTask<ChunkResult> task : tasks) {
+            ChunkResult result = task.join();
+            entries.addAll(result.entries());
+            skippedCount += result.skippedCount();
+        }
+    }
+
+    /**
+     * Parses the lines in part of a buffer on the calling thread.
+     *
+     * @return Number of lines skipped because they were not valid entries
+     */
+    private int parseChunk(ByteBuffer buffer, int start, int end, List<Entry> entries) {
+        int chunkSkipped = 0;
+        int lineStart = start;
+        while (lineStart < end) {
+            int newline = indexOf(buffer, (byte) '\n', lineStart, end);
+            int next = newline < 0 ? end : newline + 1;
+            int lineEnd = newline < 0 ? end : newline;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            Entry entry = parseLine(buffer, lineStart, lineEnd);
+            if (entry != null) {
+                entries.add(entry);
+            } else {
+                chunkSkipped++;
+                malformedLineHandler.accept(decode(buffer, lineStart, lineEnd));
+            }
+            lineStart = next;
+        }
+        return chunkSkipped;
+    }
+
+    /**
+     * Parses one line in the same way as {@link Entry#parseString(String)}.
+     *
+     * @return The entry, or null if the line is not a valid entry
+     */
+    private Entry parseLine(ByteBuffer buffer, int start, int end) {
+        boolean isExpense = startsWith(buffer, start, end, EXPENSE_PREFIX);
+        if (!isExpense && !startsWith(buffer, start, end, INCOME_PREFIX)) {
+            return null;
+        }
+        int contentStart = start + (isExpense ? EXPENSE_PREFIX.length : INCOME_PREFIX.length);
+        int dollar = indexOf(buffer, (byte) '$', contentStart, end);
+        if (dollar < 0) {
+            return null;
+        }
+
+        int openBrace = dollar;
+        int closeBrace = dollar;
+        if (isExpense) {
+            openBrace = indexOf(buffer, (byte) '{', dollar, end);
+            closeBrace = openBrace < 0 ? -1 : indexOf(buffer, (byte) '}', openBrace, end);
+            if (closeBrace < 0) {
+                return null;
+            }
+        }
+        int openBracket = indexOf(buffer, (byte) '[', closeBrace, end);
+        int closeBracket = openBracket < 0 ? -1 : indexOf(buffer, (byte) ']', openBracket, end);
+        if (closeBracket < 0) {
+            return null;
+        }
+
+        long amountCents;
+        try {
+            int amountEnd = isExpense ? openBrace : openBracket;
+            amountCents = parseCents(buffer, dollar + 1, amountEnd);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        String description = decodeTrimmed(buffer, contentStart, dollar);
+        String date = decodeTrimmed(buffer, openBracket + 1, closeBracket);
+        if (!isExpense) {
+            return Income.ofCents(description, amountCents, date);
+        }
+        return Expense.ofCents(description, amountCents, decodeTrimmed(buffer, openBrace + 1, closeBrace), date);
+    }
+
+    /**
+     * Parses an amount in the "-12.34" form written by {@link Entry#toString()} directly from the bytes,
+     * falling back to {@link Money#parseCentsLeniently(String)} for any other form.
+     */
+    private static long parseCents(ByteBuffer buffer, int start, int end) throws NumberFormatException {
+        int position = start;
+        while (position < end && (buffer.get(position) & 0xFF) <= ' ') {
+            position++;
+        }
+        int last = end;
+        while (last > position && (buffer.get(last - 1) & 0xFF) <= ' ') {
+            last--;
+        }
+        boolean isNegative = position < last && buffer.get(position) == '-';
+        if (isNegative) {
+            position++;
+        }
+
+        int wholeDigits = last - position - 3;
+        if (wholeDigits < 1 || wholeDigits > MAX_FAST_WHOLE_DIGITS || buffer.get(last - 3) != '.') {
+            return Money.parseCentsLeniently(decodeAscii(buffer, start, end));
+        }
+        long cents = 0;
+        for (int i = position; i < last; i++) {
+            if (i == last - 3) {
+                continue;
+            }
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Money.parseCentsLeniently(decodeAscii(buffer, start, end));
+            }
+            cents = cents * 10 + digit;
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int start, int end, byte[] prefix) {
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, byte value, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes part of the buffer as UTF-8 after trimming ASCII whitespace and control
+     * characters from both ends, as {@link String#trim()} would.
+     */
+    private static String decodeTrimmed(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return decode(buffer, start, end);
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int end) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String decodeAscii(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Entries parsed from one chunk, with the number of lines skipped in it.
+     */
+    private record ChunkResult(ArrayList<Entry> entries, int skippedCount) {
+    }
+}
@@ -1,13 +1,52 @@
 package seedu.duke;
 
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.ArrayList;
 
+/**
+ * Prints messages to the user.
+ * Output is either written straight away or, in buffered mode, collected and written
+ * in one go by {@link #flush()}, which the main loop calls once per command.
+ * Printed messages can also be kept in a bounded buffer so that tests can inspect them.
+ */
 public class TextUI {
     private static final String LINE_DIVIDER = "----------------------" +
             "---------------------------------------------------------";
+    // Buffered output is written early once it grows this large, so long listings stay bounded
+    private static final int MAX_BUFFERED_CHARS = 64 * 1024;
 
-    private final List<String> printedMessages = new ArrayList<>(); // Store printed messages
+    private final boolean isBuffered;
+    private final StringBuilder outputBuffer = new StringBuilder();
+    private final int captureCapacity;
+    private final ArrayDeque<String> printedMessages = new ArrayDeque<>(); // Most recent printed messages
+
+    /**
+     * Creates a TextUI that prints straight away and keeps no printed messages.
+     */
+    public TextUI() {
+        this(false, 0);
+    }
+
+    /**
+     * Creates a TextUI that prints straight away and keeps the most recent printed messages.
+     *
+     * @param captureCapacity Number of recent messages kept for {@link #getPrintedMessages()}
+     */
+    public TextUI(int captureCapacity) {
+        this(false, captureCapacity);
+    }
+
+    /**
+     * Creates a TextUI.
+     *
+     * @param isBuffered True to hold output until {@link #flush()} is called
+     * @param captureCapacity Number of recent messages kept for {@link #getPrintedMessages()}, 0 for none
+     */
+    public TextUI(boolean isBuffered, int captureCapacity) {
+        this.isBuffered = isBuffered;
+        this.captureCapacity = captureCapacity;
+    }
 
     /**
      * Prints a string input.
@@ -15,17 +54,51 @@ public class TextUI {
      * @param str The input to be printed out
      */
     public void print(String str) {
-        System.out.println(str);
-        printedMessages.add(str); // Add the message to the list
+        if (isBuffered) {
+            outputBuffer.append(str).append(System.lineSeparator());
+            if (outputBuffer.length() >= MAX_BUFFERED_CHARS) {
+                flush();
+            }
+        } else {
+            System.out.println(str);
+        }
+        capture(str);
+    }
+
+    /**
+     * Writes out any buffered output.
+     */
+    public void flush() {
+        if (outputBuffer.length() > 0) {
+            System.out.print(outputBuffer);
+            outputBuffer.setLength(0);
+        }
+        System.out.flush();
+    }
+
+    /**
+     * Keeps a printed message, dropping the oldest once the capture capacity is reached.
+     *
+     * @param str The printed message
+     */
+    private void capture(String str) {
+        if (captureCapacity <= 0) {
+            return;
+        }
+        if (printedMessages.size() == captureCapacity) {
+            printedMessages.removeFirst();
+        }
+        printedMessages.addLast(str);
     }
 
     /**
-     * Returns the list of all printed messages for testing.
+     * Returns the most recent printed messages for testing.
+     * Messages are only kept if the TextUI was created with a capture capacity.
      *
-     * @return A list of printed messages
+     * @return A list of printed messages, oldest first
      */
     public List<String> getPrintedMessages() {
-        return printedMessages;
+        return new ArrayList<>(printedMessages);
     }
 
     /**
@@ -98,7 +171,9 @@ public class TextUI {
     public void showAllAvailableCommands() {
         print("List of available commands:");
         print("1. help: Displays this list of available commands.");
-        print("2. list: Lists out all entries.");
+        print("2. list [from/<yyyy-MM-dd>] [to/<yyyy-MM-dd>]: Lists out all entries, or those dated in a period.");
+        print("   list page/<n> [size/<k>] | tail/<k> | file/<file>: Lists one page, the last k entries, "
+                + "or writes all entries to a file.");
         print("3. addExp <description> $/<value> [c/<category>] [d/<date>]: Adds a new expense entry.");
         print("4. addIncome <description> $/<value> [d/<date>]: Adds a new income entry.");
         print("5. totalExp: Displays the total expense accumulated.");
@@ -111,8 +186,11 @@ public class TextUI {
         print("12. edit <index> [<description>] [$/<amount>] [c/<category>] [d/<date>]: " +
                 "Modify the full entry or just selected details.");
         print("13. check <Overall> or <Category>: Shows overall expense or total expense for searched category\n" +
-                "    and show set budget and total expenditure of respective category.");
+                "    and show set budget and total expenditure of respective category.\n" +
+                "    Add [from/<yyyy-MM-dd>] [to/<yyyy-MM-dd>] to count only expenses dated in that period.");
         print("14. clear: Clears all entries.");
-        print("15. exit: Exits the program.");
+        print("15. export [<file>]: Writes all entries to a text file (mt_export.txt by default).");
+        print("16. summary: Shows total expenses in a table of months by categories.");
+        print("17. exit: Exits the program.");
     }
 }
@@ -0,0 +1,256 @@
+package seedu.duke;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Saves the ledger and budgets on a background thread, so commands never wait on disk I/O.
+ * Only the latest submitted copy of each is kept: while one save is being written, any
+ * number of later submissions are coalesced into a single following write.
+ * Journal records submitted meanwhile are committed together as one group after it.
+ * A failed save is logged and reported by the next submission, {@link #flush()} or {@link #close()},
+ * so the user hears about it on their next change rather than only on exit.
+ */
+public class WriteBehindSaver {
+    private final Storage storage;
+    private final MTLogger logger;
+    private final Object lock = new Object();
+    private final Thread saverThread;
+
+    // Guarded by lock
+    private List<? extends Entry> pendingLedger;
+    // Journal records made after pendingLedger, or after the last save if there is none
+    private ArrayList<String> pendingRecords = new ArrayList<>();
+    private HashMap<String, Budget> pendingBudgets;
+    // Budgets changed after pendingBudgets, or after the last save if there is none
+    private ArrayList<Budget> pendingBudgetChanges = new ArrayList<>();
+    private boolean isSaving;
+    private boolean isClosed;
+    private MTException saveError;
+    private int ledgerWriteCount;
+    private int journalCommitCount;
+
+    /**
+     * Creates the saver and starts its thread.
+     *
+     * @param storage Storage to save to
+     * @param logger Logger for failed saves
+     */
+    public WriteBehindSaver(Storage storage, MTLogger logger) {
+        this.storage = storage;
+        this.logger = logger;
+        saverThread = new Thread(this::saveChanges, "mt-write-behind");
+        saverThread.setDaemon(true);
+        saverThread.start();
+    }
+
+    /**
+     * Queues the ledger to be saved, replacing any copy not written yet.
+     *
+     * @param entries A copy of every entry that the caller will not change afterwards
+     * @throws MTException If an earlier save failed; this submission is queued regardless
+     */
+    public void submitLedger(List<? extends Entry> entries) throws MTException {
+        synchronized (lock) {
+            pendingLedger = entries;
+            // The snapshot already holds every change the pending records describe
+            pendingRecords.clear();
+            lock.notifyAll();
+            reportSaveError();
+        }
+    }
+
+    /**
+     * Queues a journal record to be committed after anything submitted before it.
+     *
+     * @param record Journal record built by {@link Storage#addRecord} and its siblings
+     * @throws MTException If an earlier save failed; this submission is queued regardless
+     */
+    public void submitJournalRecord(String record) throws MTException {
+        synchronized (lock) {
+            pendingRecords.add(record);
+            lock.notifyAll();
+            reportSaveError();
+        }
+    }
+
+    /**
+     * Queues the budgets to be saved, replacing any copy not written yet.
+     *
+     * @param budgets A copy of every budget that the caller will not change afterwards
+     * @throws MTException If an earlier save failed; this submission is queued regardless
+     */
+    public void submitBudgets(HashMap<String, Budget> budgets) throws MTException {
+        synchronized (lock) {
+            pendingBudgets = budgets;
+            pendingBudgetChanges.clear();
+            lock.notifyAll();
+            reportSaveError();
+        }
+    }
+
+    /**
+     * Queues a single changed budget to be appended after anything submitted before it.
+     *
+     * @param budget The budget that was set, which the caller will not change afterwards
+     * @throws MTException If an earlier save failed; this submission is queued regardless
+     */
+    public void submitBudget(Budget budget) throws MTException {
+        synchronized (lock) {
+            pendingBudgetChanges.add(budget);
+            lock.notifyAll();
+            reportSaveError();
+        }
+    }
+
+    /**
+     * Waits until everything submitted so far has been written.
+     *
+     * @throws MTException If a save failed and was not reported yet
+     */
+    public void flush() throws MTException {
+        synchronized (lock) {
+            while (hasPendingWork() && saverThread.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            reportSaveError();
+        }
+    }
+
+    /**
+     * Writes everything submitted so far, then stops the saver thread.
+     * Calling this more than once has no further effect.
+     *
+     * @throws MTException If a save failed and was not reported yet
+     */
+    public void close() throws MTException {
+        synchronized (lock) {
+            isClosed = true;
+            lock.notifyAll();
+        }
+        flush();
+    }
+
+    /**
+     * @return Number of times the ledger has been written so far
+     */
+    public int getLedgerWriteCount() {
+        synchronized (lock) {
+            return ledgerWriteCount;
+        }
+    }
+
+    /**
+     * @return Number of groups of journal records committed so far
+     */
+    public int getJournalCommitCount() {
+        synchronized (lock) {
+            return journalCommitCount;
+        }
+    }
+
+    /**
+     * Throws the error of the last failed save, once. Must be called holding the lock.
+     *
+     * @throws MTException If a save failed and was not reported yet
+     */
+    private void reportSaveError() throws MTException {
+        MTException error = saveError;
+        saveError = null;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private boolean hasPendingWork() {
+        return isSaving || hasPendingChanges();
+    }
+
+    private boolean hasPendingChanges() {
+        return pendingLedger != null || !pendingRecords.isEmpty()
+                || pendingBudgets != null || !pendingBudgetChanges.isEmpty();
+    }
+
+    /**
+     * Main loop of the saver thread.
+     */
+    private void saveChanges() {
+        while (true) {
+            List<? extends Entry> ledger;
+            HashMap<String, Budget> budgets;
+            ArrayList<String> records;
+            ArrayList<Budget> budgetChanges;
+            synchronized (lock) {
+                while (!hasPendingChanges() && !isClosed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        lock.notifyAll();
+                        return;
+                    }
+                }
+                if (!hasPendingChanges()) {
+                    lock.notifyAll();
+                    return;
+                }
+                ledger = pendingLedger;
+                budgets = pendingBudgets;
+                records = pendingRecords;
+                budgetChanges = pendingBudgetChanges;
+                pendingLedger = null;
+                pendingBudgets = null;
+                pendingRecords = new ArrayList<>();
+                pendingBudgetChanges = new ArrayList<>();
+                isSaving = true;
+            }
+
+            MTException error = save(ledger, records, budgets, budgetChanges);
+            synchronized (lock) {
+                if (error != null) {
+                    saveError = error;
+                } else {
+                    ledgerWriteCount += ledger != null ? 1 : 0;
+                    journalCommitCount += records.isEmpty() ? 0 : 1;
+                }
+                isSaving = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes one coalesced set of changes.
+     *
+     * @return The error that stopped the save, or null if it succeeded
+     */
+    private MTException save(List<? extends Entry> ledger, List<String> records,
+            HashMap<String, Budget> budgets, List<Budget> budgetChanges) {
+        try {
+            if (ledger != null) {
+                storage.saveLedger(ledger);
+            }
+            if (!records.isEmpty()) {
+                storage.commitJournal(records);
+            }
+            if (budgets != null) {
+                storage.saveBudgets(budgets);
+            }
+            if (!budgetChanges.isEmpty()) {
+                storage.appendBudgets(budgetChanges);
+            }
+            return null;
+        } catch (MTException error) {
+            logger.logSevere("Background save failed", error);
+            return error;
+        } catch (RuntimeException error) {
+            logger.logSevere("Background save failed", error);
+            return new MTException("Error saving entries: " + error.getMessage());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 class AddExpenseCommandTest {
     private MoneyListStub moneyListStub;
@@ -79,11 +80,11 @@ class AddExpenseCommandTest {
 
     static class StorageStub extends Storage {
         @Override
-        public void saveExpenses(ArrayList<String> expenses) {}
+        public void saveLedger(List<? extends Entry> entries) {}
 
         @Override
-        public ArrayList<String> loadEntries() {
-            return null;
+        public LazyLedger openLedger() {
+            return LazyLedger.of(new ArrayList<>(), 0);
         }
 
         @Override
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class AddExpenseTest {
     private MoneyList moneyList;
@@ -15,10 +18,10 @@ public class AddExpenseTest {
     private TextUI ui;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         // Initialize dependencies
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
 
         // Create a new MoneyList instance
@@ -30,13 +33,22 @@ public class AddExpenseTest {
         try {
             MoneyList moneyList = new MoneyList(logger, storage, ui);
             moneyList.addExpense("addExp Milk $/10 c/Food");
-            assertTrue(moneyList.getMoneyList().contains("Expense: Milk $10.00 {Food} [no date]"),
+            assertEquals("Expense: Milk $10.00 {Food} [no date]", moneyList.getMoneyList().get(0).toString(),
                     "Expense should be added.");
         } catch (Exception e) {
             fail("Exception should not occur for valid input.");
         }
     }
 
+    @Test
+    void testAddExpense_extraDecimalPlaces_roundedAsBefore() throws MTException {
+        moneyList.addExpense("addExp Stamp $/0.125 c/Post");
+        moneyList.addExpense("addExp Tea $/2.675 c/Food");
+
+        assertEquals("Expense: Stamp $0.12 {Post} [no date]", moneyList.getMoneyList().get(0).toString());
+        assertEquals("Expense: Tea $2.67 {Food} [no date]", moneyList.getMoneyList().get(1).toString());
+    }
+
     @Test
     void testAddExpense_missingDollarSign() {
         MoneyList moneyList = new MoneyList(logger, storage, ui);
@@ -60,7 +72,7 @@ public class AddExpenseTest {
         try {
             MoneyList moneyList = new MoneyList(logger, storage, ui);
             moneyList.addExpense("addExpMilk$/20");
-            assertTrue(moneyList.getMoneyList().contains("Expense: Milk $20.00 {Uncategorized} [no date]"));
+            assertEquals("Expense: Milk $20.00 {Uncategorized} [no date]", moneyList.getMoneyList().get(0).toString());
         } catch (Exception e) {
             fail("Exception should not occur when category is missing.");
         }
@@ -106,6 +118,7 @@ public class AddExpenseTest {
             moneyList.addExpense("addExp $/50 c/Food d/2025-03-28");
             // Verify both the default behavior and proper parsing:
             assertTrue(moneyList.getMoneyList().stream()
+                            .map(Entry::toString)
                             .anyMatch(entry -> entry.contains("$50.00")
                                     && entry.contains("Food")
                                     && entry.contains("2025-03-28")),
@@ -128,7 +141,7 @@ public class AddExpenseTest {
         try {
             MoneyList moneyList = new MoneyList(logger, storage, ui);
             moneyList.addExpense("addExp Milk $/999999999 c/Food");
-            assertTrue(moneyList.getMoneyList().contains("Expense: Milk $999999999.00 {Food} [no date]"),
+            assertEquals("Expense: Milk $999999999.00 {Food} [no date]", moneyList.getMoneyList().get(0).toString(),
                     "Expense with large amount should be added.");
         } catch (Exception e) {
             fail("Exception should not occur for a large amount.");
@@ -159,7 +172,8 @@ public class AddExpenseTest {
         try {
             MoneyList moneyList = new MoneyList(logger, storage, ui);
             moneyList.addExpense("addExp Milky-Way!@# $/50 c/Gr#oc!ery");
-            assertTrue(moneyList.getMoneyList().contains("Expense: Milky-Way!@# $50.00 {Gr#oc!ery} [no date]"),
+            assertEquals("Expense: Milky-Way!@# $50.00 {Gr#oc!ery} [no date]",
+                    moneyList.getMoneyList().get(0).toString(),
                     "Expense with special characters should be added.");
         } catch (Exception e) {
             fail("Exception should not occur for special characters.");
@@ -165,7 +165,7 @@ class AddIncomeCommandTest {
         }
 
         @Override
-        public void saveExpenses(ArrayList<String> moneyList) {
+        public void saveLedger(List<? extends Entry> entries) {
             // Do nothing for tests
         }
     }
@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 //@@author limleyhooi
 public class AddIncomeTest {
     private MoneyList moneyList;
@@ -16,9 +18,9 @@ public class AddIncomeTest {
     private TextUI ui;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
         moneyList = new MoneyList(logger, storage, ui);
     }
@@ -27,8 +29,8 @@ public class AddIncomeTest {
     void testAddIncome_validInputWithDate() {
         try {
             moneyList.addIncome("addIncome Salary $/1000 d/15 march");
-            ArrayList<String> list = moneyList.getMoneyList();
-            assertTrue(list.contains("Income: Salary $1000.00 [15 march]"),
+            List<Entry> list = moneyList.getMoneyList();
+            assertEquals("Income: Salary $1000.00 [15 march]", list.get(0).toString(),
                     "Income with date should be added.");
         } catch (Exception e) {
             fail("Exception should not occur for valid input with date.");
@@ -39,9 +41,9 @@ public class AddIncomeTest {
     void testAddIncome_validInputWithoutDate() {
         try {
             moneyList.addIncome("addIncome Bonus $/500");
-            ArrayList<String> list = moneyList.getMoneyList();
+            List<Entry> list = moneyList.getMoneyList();
             // Expected format: "Income: Bonus $500.00 [no date]"
-            assertTrue(list.contains("Income: Bonus $500.00 [no date]"),
+            assertEquals("Income: Bonus $500.00 [no date]", list.get(0).toString(),
                     "Income without date should default to 'no date'.");
         } catch (Exception e) {
             fail("Exception should not occur for valid input without date.");
@@ -95,8 +97,8 @@ public class AddIncomeTest {
     void testAddIncome_onlyAmountProvided() {
         try {
             moneyList.addIncome("addIncome $/750");
-            ArrayList<String> list = moneyList.getMoneyList();
-            boolean found = list.stream().anyMatch(entry ->
+            List<Entry> list = moneyList.getMoneyList();
+            boolean found = list.stream().map(Entry::toString).anyMatch(entry ->
                     entry.contains("$750.00") && entry.contains("[no date]"));
             assertTrue(found, "Income with only amount should be added with an empty description.");
         } catch (Exception e) {
@@ -0,0 +1,68 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for AsyncLogHandler.
+ * Checks that queued records reach the file on flush and close, and that the file is rotated by size.
+ */
+public class AsyncLogHandlerTest {
+
+    @Test
+    void testFlush_writesQueuedRecords(@TempDir Path tempDir) throws IOException {
+        Path logFile = tempDir.resolve("test.log");
+        AsyncLogHandler handler = new AsyncLogHandler(logFile, 1024 * 1024, 2);
+
+        handler.publish(new LogRecord(Level.INFO, "first message"));
+        handler.publish(new LogRecord(Level.WARNING, "second message"));
+        handler.flush();
+
+        String content = Files.readString(logFile);
+        assertTrue(content.contains("first message"));
+        assertTrue(content.contains("second message"));
+        handler.close();
+    }
+
+    @Test
+    void testClose_ignoresLaterRecords(@TempDir Path tempDir) throws IOException {
+        Path logFile = tempDir.resolve("test.log");
+        AsyncLogHandler handler = new AsyncLogHandler(logFile, 1024 * 1024, 2);
+
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        handler.close();
+
+        String content = Files.readString(logFile);
+        assertTrue(content.contains("before close"));
+        assertFalse(content.contains("after close"));
+    }
+
+    @Test
+    void testRotation_keepsBoundedBackups(@TempDir Path tempDir) {
+        Path logFile = tempDir.resolve("test.log");
+        AsyncLogHandler handler = new AsyncLogHandler(logFile, 200, 2);
+
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message number " + i));
+            handler.flush();
+        }
+        handler.close();
+
+        assertTrue(Files.exists(tempDir.resolve("test.log.1")));
+        assertTrue(Files.exists(tempDir.resolve("test.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("test.log.3")));
+        assertEquals(0, handler.getDroppedCount());
+    }
+}
@@ -145,6 +145,11 @@ class BudgetCommandTest {
         public void saveBudgets(HashMap<String, Budget> budgetList) {
             // Do nothing for tests
         }
+
+        @Override
+        public void appendBudgets(List<Budget> budgets) {
+            // Do nothing for tests
+        }
     }
 
     private static class TextUIStub extends TextUI {
@@ -0,0 +1,59 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for CategoryDictionary.
+ * Checks that spellings equal ignoring case share a category id, that each dictionary hands out
+ * its own ids, and that MoneyList totals and category listings go by category id.
+ */
+public class CategoryDictionaryTest {
+
+    @Test
+    void testCategoryIdOf_spellingsShareCategoryId() {
+        CategoryDictionary categories = new CategoryDictionary();
+        int lower = categories.categoryIdOf("stationery");
+
+        assertEquals(lower, categories.categoryIdOf("STATIONERY"));
+        assertEquals(lower, categories.findCategoryId("Stationery"));
+        assertEquals("stationery", categories.nameOf(lower));
+        assertNotEquals(lower, categories.categoryIdOf("Food"));
+        assertEquals(CategoryDictionary.NONE, categories.findCategoryId("never used category"));
+    }
+
+    @Test
+    void testCategoryIdOf_dictionariesAreIndependent() {
+        CategoryDictionary first = new CategoryDictionary();
+        CategoryDictionary second = new CategoryDictionary();
+        first.categoryIdOf("Food");
+
+        assertEquals(CategoryDictionary.NONE, second.findCategoryId("Food"));
+        assertEquals(0, second.categoryIdOf("Transport"));
+        assertEquals("Transport", second.nameOf(0));
+    }
+
+    @Test
+    void testMoneyList_totalsAndCategoriesByCategoryId(@TempDir Path tempDir) {
+        TextUI ui = new TextUI(10);
+        MoneyList moneyList = new MoneyList(new MTLogger(CategoryDictionaryTest.class.getName()),
+                new Storage(tempDir.toFile(), true), ui);
+        moneyList.addEntry(Expense.ofCents("Pens", 300, "Office Supplies", "no date"));
+        moneyList.addEntry(Expense.ofCents("Paper", 500, "office supplies", "no date"));
+        moneyList.addEntry(Expense.ofCents("Bus", 150, "Commute", "no date"));
+
+        assertEquals(800, moneyList.getTotalExpenseCents("OFFICE SUPPLIES"));
+        assertEquals(0, moneyList.getTotalExpenseCents("never used category"));
+        assertEquals("Expense: Paper $5.00 {office supplies} [no date]", moneyList.getMoneyList().get(1).toString());
+
+        moneyList.listCats();
+        assertEquals(List.of("Categories (in order of appearance):", "- Office Supplies", "- Commute"),
+                ui.getPrintedMessages());
+    }
+}
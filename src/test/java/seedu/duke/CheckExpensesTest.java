@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 
 /**
@@ -24,16 +27,16 @@ public class CheckExpensesTest {
      * Sets up a new MoneyList with dummy data before each test.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
 
         moneyList = new MoneyList(logger, storage, ui);
 
         // Add dummy expenses
-        moneyList.getMoneyList().add("Expense: taxi $30.00 {transport} [2024-12-01]");
-        moneyList.getMoneyList().add("Expense: movie $15.00 {entertainment} [2024-12-02]");
+        moneyList.addEntry(new Expense("taxi", 30.00, "transport", "2024-12-01"));
+        moneyList.addEntry(new Expense("movie", 15.00, "entertainment", "2024-12-02"));
     }
 
     // Test case 1: Check for successful processing of "Overall" budget
@@ -129,4 +132,27 @@ public class CheckExpensesTest {
         assertEquals("Category budget cannot be negative.", exception.getMessage());
     }
 
+    // Test case 11: Running totals follow additions, edits, deletions and clearing
+    @Test
+    public void testGetTotalExpenseValue_tracksChanges() throws MTException {
+        assertEquals(45.00, moneyList.getTotalExpenseValue(null), 0.001);
+        assertEquals(30.00, moneyList.getTotalExpenseValue("Transport"), 0.001);
+
+        moneyList.addExpense("addExp bus $/2.50 c/Transport");
+        moneyList.addIncome("addIncome salary $/1000");
+        assertEquals(47.50, moneyList.getTotalExpenseValue(null), 0.001);
+        assertEquals(32.50, moneyList.getTotalExpenseValue("transport"), 0.001);
+
+        moneyList.editExpense(0, null, 0.0, "entertainment", null);
+        assertEquals(2.50, moneyList.getTotalExpenseValue("transport"), 0.001);
+        assertEquals(45.00, moneyList.getTotalExpenseValue("entertainment"), 0.001);
+
+        moneyList.deleteEntry("delete 2");
+        assertEquals(32.50, moneyList.getTotalExpenseValue(null), 0.001);
+        assertEquals(30.00, moneyList.getTotalExpenseValue("entertainment"), 0.001);
+
+        moneyList.clearEntries();
+        assertEquals(0.00, moneyList.getTotalExpenseValue(null), 0.001);
+        assertEquals(0.00, moneyList.getTotalExpenseValue("transport"), 0.001);
+    }
 }
@@ -3,10 +3,12 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 
 //@@author rchlai
 /**
@@ -30,19 +32,19 @@ class ClearListCommandTest {
      * and initializes MoneyList with pre-populated test data.
      */
     @BeforeEach
-    void setUp() {
+    void setUp(@TempDir Path tempDir) {
         // Redirect System.out to capture printed output for testing
         System.setOut(new PrintStream(outContent));
 
         // Initialize dependencies
         ui = new TextUI();
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         moneyList = new MoneyList(new MTLogger(
                 ClearListCommandTest.class.getName()), storage, ui);
 
         // Pre-populate test data
-        moneyList.getMoneyList().add("Test expense 1");
-        moneyList.getMoneyList().add("Test expense 2");
+        moneyList.addEntry(new Expense("Test expense 1", 1.00, null, null));
+        moneyList.addEntry(new Expense("Test expense 2", 2.00, null, null));
     }
 
     /**
@@ -83,8 +85,9 @@ class ClearListCommandTest {
      */
     @Test
     void execute_clearEmptyList_showEmptyMessage() throws Exception {
-        // Ensure the money list is empty
-        moneyList.getMoneyList().clear();
+        // Start from an empty money list
+        moneyList = new MoneyList(new MTLogger(
+                ClearListCommandTest.class.getName()), storage, ui);
 
         // Create a ClearListCommand instance and execute the command
         Command command = new ClearListCommand();
@@ -0,0 +1,89 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for DateIndex and DateRange.
+ * Checks that range queries return only dated entries within the bounds, in date order,
+ * and that list and check report the same entries and totals through MoneyList.
+ */
+public class DateIndexTest {
+    private CategoryDictionary categories;
+    private DateIndex index;
+    private Expense rent;
+    private Expense milk;
+    private Income salary;
+    private Expense undated;
+
+    @BeforeEach
+    public void setUp() {
+        categories = new CategoryDictionary();
+        index = new DateIndex(categories);
+        milk = new Expense("Oat Milk", 4.50, "Food", "2025-03-28");
+        rent = new Expense("Rent", 500.00, "Housing", "2025-03-01");
+        salary = new Income("Monthly salary", 3000.00, "2025-04-01");
+        undated = new Expense("Snack", 2.00, "Food", "no date");
+        index.add(milk);
+        index.add(rent);
+        index.add(salary);
+        index.add(undated);
+    }
+
+    @Test
+    void testFind_returnsDatedEntriesInRangeByDate() throws MTException {
+        assertEquals(List.of(rent, milk), index.find(DateRange.parse("from/2025-03-01 to/2025-03-31")));
+        assertEquals(List.of(milk, salary), index.find(DateRange.parse("from/2025-03-02")));
+        assertEquals(List.of(rent), index.find(DateRange.parse("to/2025-03-27")));
+    }
+
+    @Test
+    void testSumExpenseCents_byCategoryAndOverall() throws MTException {
+        DateRange march = DateRange.parse("to/2025-03-31 from/2025-03-01");
+
+        assertEquals(450, index.sumExpenseCents(march, categories.categoryIdOf("FOOD")));
+        assertEquals(50450, index.sumExpenseCents(march));
+
+        index.remove(rent);
+        assertEquals(450, index.sumExpenseCents(march));
+    }
+
+    @Test
+    void testParse_rejectsInvalidRanges() {
+        MTException error = assertThrows(MTException.class, () -> DateRange.parse("from/2025-02-30"));
+        assertEquals("Invalid date: 2025-02-30. Dates must be in yyyy-MM-dd form.", error.getMessage());
+
+        error = assertThrows(MTException.class, () -> DateRange.parse("from/2025-03-02 to/2025-03-01"));
+        assertEquals("The start date must not be after the end date.", error.getMessage());
+
+        assertThrows(MTException.class, () -> DateRange.parse("from/2025-03-01 from/2025-03-02"));
+    }
+
+    @Test
+    void testMoneyList_listAndCheckWithinRange(@TempDir Path tempDir) throws MTException {
+        TextUI ui = new TextUI(10);
+        MoneyList moneyList = new MoneyList(new MTLogger(DateIndexTest.class.getName()),
+                new Storage(tempDir.toFile(), true), ui);
+        moneyList.addEntry(new Expense("Groceries", 30.00, "Food", "2025-02-27"));
+        moneyList.addEntry(new Expense("Lunch", 12.00, "Food", "2025-03-05"));
+        moneyList.addEntry(new Expense("Dinner", 20.00, "food", "2025-03-02"));
+        moneyList.getBudgetList().put("food", Budget.ofCents("Food", 10000));
+
+        moneyList.listSummary(DateRange.parse("from/2025-03-01 to/2025-03-31"));
+        moneyList.checkExpenses("Food", DateRange.parse("from/2025-03-01 to/2025-03-31"));
+
+        List<String> printed = ui.getPrintedMessages();
+        assertEquals("Entries dated from 2025-03-01 to 2025-03-31:", printed.get(0));
+        assertEquals("3: Expense: Dinner $20.00 {food} [2025-03-02]", printed.get(1));
+        assertEquals("2: Expense: Lunch $12.00 {Food} [2025-03-05]", printed.get(2));
+        assertEquals("Spent: $32.00", printed.get(5));
+        assertEquals("Remaining: $68.00", printed.get(6));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for deferred persistence in MoneyList, as used by batch mode.
+ * Checks that changes are only written once, when the deferred changes are flushed,
+ * and that write-behind mode saves changes off the command thread.
+ */
+public class DeferredPersistenceTest {
+    private CountingStorage storage;
+    private MoneyList moneyList;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage();
+        moneyList = new MoneyList(new MTLogger(MoneyTrail.class.getName()), storage, new TextUI());
+    }
+
+    @Test
+    void testDeferPersistence_savesOnceOnFlush() throws MTException {
+        moneyList.deferPersistence();
+        moneyList.addExpense("addExp Lunch $/12.50 c/Food");
+        moneyList.addIncome("addIncome Salary $/3000");
+        moneyList.deleteEntry("delete 1");
+        moneyList.setTotalBudget("setTotBgt 500");
+        moneyList.setCategoryLimit("food", "100");
+
+        assertEquals(0, storage.ledgerSaves);
+        assertEquals(0, storage.journalWrites);
+        assertEquals(0, storage.budgetSaves);
+
+        moneyList.flushDeferredChanges();
+
+        assertEquals(1, storage.ledgerSaves);
+        assertEquals(1, storage.lastLedgerSize);
+        assertEquals(1, storage.budgetSaves);
+    }
+
+    @Test
+    void testFlushDeferredChanges_resumesSavingEachChange() throws MTException {
+        moneyList.deferPersistence();
+        moneyList.flushDeferredChanges();
+
+        assertEquals(0, storage.ledgerSaves);
+
+        moneyList.addExpense("addExp Lunch $/12.50 c/Food");
+        assertEquals(1, storage.journalWrites);
+    }
+
+    @Test
+    void testWriteBehind_journalsChangesInBackground() throws MTException {
+        moneyList.startWriteBehind();
+        moneyList.addExpense("addExp Lunch $/12.50 c/Food");
+        moneyList.addExpense("addExp Bus $/1.50 c/Transport");
+        moneyList.setTotalBudget("setTotBgt 500");
+        moneyList.stopWriteBehind();
+
+        assertEquals(0, storage.ledgerSaves);
+        assertEquals(2, storage.journalWrites);
+        assertEquals(1, storage.budgetSaves);
+
+        moneyList.clearEntries();
+        assertEquals(1, storage.ledgerSaves);
+    }
+
+    /**
+     * Storage stub that counts writes instead of touching files.
+     */
+    private static class CountingStorage extends Storage {
+        private int ledgerSaves;
+        private int lastLedgerSize;
+        private int journalWrites;
+        private int budgetSaves;
+
+        @Override
+        public void saveLedger(List<? extends Entry> entries) {
+            ledgerSaves++;
+            lastLedgerSize = entries.size();
+        }
+
+        @Override
+        public void appendEntry(int id, String entry) {
+            journalWrites++;
+        }
+
+        @Override
+        public void replaceEntry(int id, String entry) {
+            journalWrites++;
+        }
+
+        @Override
+        public void removeEntry(int id) {
+            journalWrites++;
+        }
+
+        @Override
+        public void commitJournal(List<String> records) {
+            journalWrites += records.size();
+        }
+
+        @Override
+        public void saveBudgets(HashMap<String, Budget> budgetList) {
+            budgetSaves++;
+        }
+
+        @Override
+        public void appendBudgets(List<Budget> budgets) {
+            budgetSaves++;
+        }
+    }
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 //@@author rchlai
 
@@ -20,25 +23,27 @@ class DeleteEntryTest {
     private MTLogger logger; // Logger to track events and errors
     private Storage storage; // Storage for persisting data
     private TextUI ui; // Text-based user interface for interacting with MoneyList
+    private Entry secondEntry; // Entry expected to be removed by a valid delete
 
     /**
      * Sets up the test environment before each test.
      * Initializes a MoneyList instance with dependencies and simulates loading test data.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         // Initialize dependencies
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
 
         // Create a new MoneyList instance
         moneyList = new MoneyList(logger, storage, ui);
 
         // Simulate loading entries into moneyList for testing
-        moneyList.getMoneyList().add("Entry 1: $100");
-        moneyList.getMoneyList().add("Entry 2: $50");
-        moneyList.getMoneyList().add("Entry 3: $75");
+        secondEntry = new Income("Entry 2", 50, null);
+        moneyList.addEntry(new Income("Entry 1", 100, null));
+        moneyList.addEntry(secondEntry);
+        moneyList.addEntry(new Income("Entry 3", 75, null));
     }
 
     /**
@@ -60,7 +65,7 @@ class DeleteEntryTest {
                 "The size of moneyList should decrease by 1 after deletion.");
 
         // Verify the correct entry was deleted
-        assertFalse(moneyList.getMoneyList().contains("Entry 2: $50"),
+        assertFalse(moneyList.getMoneyList().contains(secondEntry),
                 "Entry 2 should be deleted from moneyList.");
     }
 
@@ -0,0 +1,104 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for DurableFiles and SyncPolicy.
+ * Checks that files are replaced in one step and synced as often as the policy asks.
+ */
+public class DurableFilesTest {
+    private static final String SYNC_PROPERTY = "moneytrail.sync";
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(SYNC_PROPERTY);
+    }
+
+    @Test
+    void testReplace_writesContentWithoutTempFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("ledger.txt");
+        DurableFiles files = new DurableFiles(SyncPolicy.everyWrite());
+
+        files.replace(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        files.replace(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("second", Files.readString(file));
+        assertFalse(Files.exists(tempDir.resolve("ledger.txt.tmp")));
+        assertEquals(0, files.getUnsyncedCount());
+    }
+
+    @Test
+    void testReplace_failedWriteKeepsOldContent(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("ledger.txt");
+        DurableFiles files = new DurableFiles(SyncPolicy.everyWrite());
+        files.replace(file, out -> out.write("saved".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IOException.class, () -> files.replace(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("saved", Files.readString(file));
+        assertFalse(Files.exists(tempDir.resolve("ledger.txt.tmp")));
+    }
+
+    @Test
+    void testOnExit_syncsOnlyWhenAsked(@TempDir Path tempDir) throws IOException {
+        DurableFiles files = new DurableFiles(SyncPolicy.onExit());
+
+        files.replace(tempDir.resolve("ledger.txt"), out -> out.write('a'));
+        files.append(tempDir.resolve("journal.txt"), "ADD entry\n");
+        files.append(tempDir.resolve("journal.txt"), "DEL 0\n");
+
+        assertEquals(2, files.getUnsyncedCount());
+        assertEquals("ADD entry\nDEL 0\n", Files.readString(tempDir.resolve("journal.txt")));
+        files.syncAll();
+        assertEquals(0, files.getUnsyncedCount());
+    }
+
+    @Test
+    void testInterval_syncsPendingFilesOnceDue(@TempDir Path tempDir) throws IOException {
+        AtomicLong now = new AtomicLong(1000);
+        DurableFiles files = new DurableFiles(SyncPolicy.everyInterval(500), now::get);
+
+        files.append(tempDir.resolve("journal.txt"), "ADD entry\n");
+        now.addAndGet(499);
+        files.replace(tempDir.resolve("budgets.txt"), out -> out.write('b'));
+        assertEquals(2, files.getUnsyncedCount());
+
+        // Without a write, nothing is synced however long the interval has passed
+        now.addAndGet(10_000);
+        assertEquals(2, files.getUnsyncedCount());
+
+        files.append(tempDir.resolve("journal.txt"), "DEL 0\n");
+        assertEquals(0, files.getUnsyncedCount());
+    }
+
+    @Test
+    void testFromProperty_parsesPolicies() {
+        assertTrue(SyncPolicy.fromProperty().isSyncDue(0));
+
+        System.setProperty(SYNC_PROPERTY, "exit");
+        assertFalse(SyncPolicy.fromProperty().isSyncDue(Long.MAX_VALUE));
+
+        System.setProperty(SYNC_PROPERTY, "250");
+        assertFalse(SyncPolicy.fromProperty().isSyncDue(249));
+        assertTrue(SyncPolicy.fromProperty().isSyncDue(250));
+
+        System.setProperty(SYNC_PROPERTY, "sometimes");
+        assertTrue(SyncPolicy.fromProperty().isSyncDue(0));
+    }
+}
@@ -3,8 +3,11 @@ package seedu.duke;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for the {@link MoneyList#editExpense(int, String, Double, String, String)} method.
@@ -21,20 +24,20 @@ public class EditExpenseTest {
      * Sets up the test environment.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         logger = new MTLogger("EditExpenseTest");
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
         moneyList = new MoneyList(logger, storage, ui);
 
-        moneyList.getMoneyList().add("Expense: Coffee $5.00 {food} [2024-04-01]");
+        moneyList.addEntry(new Expense("Coffee", 5.00, "food", "2024-04-01"));
     }
 
     // Test case 1: Editing all fields successfully
     @Test
     public void testEditExpense_validFullUpdate_success() throws MTException {
         moneyList.editExpense(0, "Latte", 6.50, "beverages", "2024-04-02");
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("Latte"));
         assertTrue(entry.contains("$6.50"));
         assertTrue(entry.contains("{beverages}"));
@@ -45,7 +48,7 @@ public class EditExpenseTest {
     @Test
     public void testEditExpense_partialUpdate_preservesOldValues() throws MTException {
         moneyList.editExpense(0, null, -1.0, "", "");
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("Coffee"));
         assertTrue(entry.contains("$5.00"));
         assertTrue(entry.contains("{food}"));
@@ -56,7 +59,7 @@ public class EditExpenseTest {
     @Test
     public void testEditExpense_blankDescription_revertsToOld() throws MTException {
         moneyList.editExpense(0, "", 4.50, "snack", "2024-04-03");
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("Coffee"));
         assertTrue(entry.contains("$4.50"));
         assertTrue(entry.contains("{snack}"));
@@ -66,7 +69,7 @@ public class EditExpenseTest {
     @Test
     public void testEditExpense_zeroAmount_revertsToOld() throws MTException {
         moneyList.editExpense(0, "Chips", 0.0, "snack", "2024-04-03");
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("Chips"));
         assertTrue(entry.contains("$5.00"));
     }
@@ -75,7 +78,7 @@ public class EditExpenseTest {
     @Test
     public void testEditExpense_nullDate_revertsToOld() throws MTException {
         moneyList.editExpense(0, "Coke", 3.00, "drink", null);
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("Coke"));
         assertTrue(entry.contains("[2024-04-01]"));
     }
@@ -84,7 +87,7 @@ public class EditExpenseTest {
     @Test
     public void testEditExpense_uppercaseCategory_stillWorks() throws MTException {
         moneyList.editExpense(0, "Cake", 8.00, "DESSERT", "2024-04-04");
-        String entry = moneyList.getMoneyList().get(0);
+        String entry = moneyList.getMoneyList().get(0).toString();
         assertTrue(entry.contains("{DESSERT}"));
     }
 
@@ -102,27 +105,29 @@ public class EditExpenseTest {
                 "lunch", "2024-04-06"));
     }
 
-    // Test case 9: Entry with random string format should throw exception
+    // Test case 9: Saved entry with random string format cannot be parsed
     @Test
     public void testEditExpense_corruptedFormatEntry_throwsException() {
-        moneyList.getMoneyList().set(0, "Random Trash");
-        assertThrows(MTException.class, () -> moneyList.editExpense(0, "Fix", 20.00,
-                "repair", "2024-12-10"));
+        assertThrows(MTException.class, () -> Expense.parseString("Random Trash"));
     }
 
-    // Test case 10: Missing category braces should throw exception
+    // Test case 10: Saved entry missing category braces cannot be parsed
     @Test
     public void testEditExpense_missingCategoryBraces_throwsException() {
-        moneyList.getMoneyList().set(0, "Expense: Phone bill $50.00 [2024-04-10]");
-        assertThrows(MTException.class, () -> moneyList.editExpense(0, "Phone Plan",
-                55.00, "utilities", "2024-04-11"));
+        assertThrows(MTException.class, () -> Expense.parseString("Expense: Phone bill $50.00 [2024-04-10]"));
     }
 
-    // Test case 11: Missing date brackets should throw exception
+    // Test case 11: Saved entry missing date brackets cannot be parsed
     @Test
     public void testEditExpense_missingDateBrackets_throwsException() {
-        moneyList.getMoneyList().set(0, "Expense: Internet $40.00 {utilities}");
-        assertThrows(MTException.class, () -> moneyList.editExpense(0, "Internet Plan",
-                45.00, "utilities", "2024-04-12"));
+        assertThrows(MTException.class, () -> Expense.parseString("Expense: Internet $40.00 {utilities}"));
+    }
+
+    // Test case 12: Income entries have no category and cannot be edited as expenses
+    @Test
+    public void testEditExpense_incomeEntry_throwsException() {
+        moneyList.addEntry(new Income("Salary", 1000.00, "2024-04-01"));
+        assertThrows(MTException.class, () -> moneyList.editExpense(1, "Bonus", 500.00,
+                "work", "2024-04-02"));
     }
 }
@@ -0,0 +1,95 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EntryStore.
+ * Checks that deletes leave tombstones while entry numbers, lookups by id and iteration
+ * behave exactly as they would with a plain list, before and after compaction.
+ */
+public class EntryStoreTest {
+    private static Expense newExpense(int id) {
+        Expense expense = new Expense("Item " + id, id, "Food", "no date");
+        expense.assignId(id);
+        return expense;
+    }
+
+    @Test
+    void testRemove_keepsNumberingOfPlainList() {
+        EntryStore store = new EntryStore();
+        List<Entry> expected = new ArrayList<>();
+        for (int id = 0; id < 10; id++) {
+            Expense expense = newExpense(id);
+            store.add(expense);
+            expected.add(expense);
+        }
+
+        assertEquals(expected.remove(3), store.remove(3));
+        assertEquals(expected.remove(0), store.remove(0));
+        assertEquals(expected.remove(7), store.remove(7));
+        Expense replacement = newExpense(4);
+        assertEquals(expected.set(2, replacement), store.set(2, replacement));
+
+        assertEquals(3, store.getTombstoneCount());
+        assertEquals(expected, store);
+        assertEquals(expected, new ArrayList<>(store));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, store.indexOfId(expected.get(i).getId()));
+        }
+        assertEquals(-1, store.indexOfId(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(7));
+    }
+
+    @Test
+    void testRemoveById_findsEntryWhateverItsNumber() {
+        EntryStore store = new EntryStore();
+        for (int id = 0; id < 10; id += 2) {
+            store.add(newExpense(id));
+        }
+
+        assertEquals(0, store.removeById(0).getId());
+        assertNull(store.removeById(0));
+        assertNull(store.removeById(3));
+        Expense replacement = newExpense(6);
+        assertEquals(6, store.setById(replacement).getId());
+        assertNull(store.setById(newExpense(5)));
+
+        assertEquals(List.of(2, 4, 6, 8), store.stream().map(Entry::getId).toList());
+        assertEquals(replacement, store.get(2));
+        assertFalse(store.acceptsId(8));
+        assertTrue(store.acceptsId(9));
+    }
+
+    @Test
+    void testRemove_compactsOnceTombstonesOutnumberEntries() {
+        EntryStore store = new EntryStore();
+        for (int id = 0; id < 200; id++) {
+            store.add(newExpense(id));
+        }
+
+        // Delete from the front until only entries 100..199 remain
+        for (int i = 0; i < 100; i++) {
+            store.remove(0);
+        }
+        assertEquals(100, store.size());
+        assertEquals(100, store.getTombstoneCount());
+
+        store.remove(0);
+        assertEquals(0, store.getTombstoneCount());
+        assertEquals(99, store.size());
+        assertEquals(101, store.get(0).getId());
+        assertEquals(98, store.indexOfId(199));
+
+        store.add(newExpense(200));
+        assertEquals(99, store.indexOfId(200));
+    }
+}
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for the findEntry functionality in MoneyList.
@@ -27,17 +30,17 @@ public class FindEntryTest {
      * Initializes dependencies and pre-populates the money list with sample data.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         // Initialize dependencies
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
 
         // Create a new MoneyList instance and populate it with sample data
         moneyList = new MoneyList(logger, storage, ui);
-        moneyList.getMoneyList().add("[Expense] Milk $10.00 |Food| (2025-03-28)");
-        moneyList.getMoneyList().add("[Expense] Rent $500.00 |Housing| (2025-03-01)");
-        moneyList.getMoneyList().add("[Expense] Coffee $5.00 |Food| (2025-03-29)");
+        moneyList.addEntry(new Expense("Milk", 10.00, "Food", "2025-03-28"));
+        moneyList.addEntry(new Expense("Rent", 500.00, "Housing", "2025-03-01"));
+        moneyList.addEntry(new Expense("Coffee", 5.00, "Food", "2025-03-29"));
     }
 
     /**
@@ -0,0 +1,110 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for JournalWriter.
+ * Checks that records committed while a batch is being written share the next write.
+ */
+public class JournalWriterTest {
+
+    @Test
+    void testCommit_groupsRecordsWaitingOnEarlierBatch(@TempDir Path tempDir) throws Exception {
+        Path journalFile = tempDir.resolve("mt.journal");
+        BlockingFiles files = new BlockingFiles();
+        JournalWriter writer = new JournalWriter(files, journalFile);
+
+        Thread first = new Thread(commitTask(writer, "ADD first"));
+        first.start();
+        assertTrue(files.writeStarted.await(5, TimeUnit.SECONDS));
+
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Thread follower = new Thread(commitTask(writer, "DEL " + i));
+            followers.add(follower);
+            follower.start();
+        }
+        for (Thread follower : followers) {
+            waitUntilWaiting(follower);
+        }
+        files.release.countDown();
+        first.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        assertEquals(2, writer.getBatchCount());
+        List<String> lines = Files.readAllLines(journalFile);
+        assertEquals(4, lines.size());
+        assertEquals("ADD first", lines.get(0));
+    }
+
+    @Test
+    void testCommit_reportsFailedBatch(@TempDir Path tempDir) {
+        DurableFiles files = new DurableFiles(SyncPolicy.everyWrite()) {
+            @Override
+            public synchronized void append(Path file, String text) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        JournalWriter writer = new JournalWriter(files, tempDir.resolve("mt.journal"));
+
+        IOException error = assertThrows(IOException.class, () -> writer.commit(List.of("ADD entry")));
+        assertEquals("disk full", error.getMessage());
+    }
+
+    private static Runnable commitTask(JournalWriter writer, String record) {
+        return () -> commitQuietly(writer, record);
+    }
+
+    private static void commitQuietly(JournalWriter writer, String record) {
+        try {
+            writer.commit(List.of(record));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntilWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Durable files whose first append waits until the test releases it.
+     */
+    private static class BlockingFiles extends DurableFiles {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingFiles() {
+            super(SyncPolicy.everyWrite());
+        }
+
+        @Override
+        public void append(Path file, String text) throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.append(file, text);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for KeywordIndex.
+ * Checks that partial, short and multi-word keywords find the same entries
+ * a full scan would, in list order, and that removed or edited entries are only found by their current fields.
+ */
+public class KeywordIndexTest {
+    private KeywordIndex index;
+    private Expense milk;
+    private Expense rent;
+    private Income salary;
+
+    @BeforeEach
+    public void setUp() {
+        index = new KeywordIndex();
+        milk = new Expense("Oat Milk", 4.50, "Food", "2025-03-28");
+        rent = new Expense("Rent", 500.00, "Housing", "2025-03-01");
+        salary = new Income("Monthly salary", 3000.00, "2025-04-01");
+        milk.assignId(0);
+        rent.assignId(1);
+        salary.assignId(2);
+        index.add(milk);
+        index.add(rent);
+        index.add(salary);
+    }
+
+    @Test
+    void testFind_partialKeywordAcrossFields() {
+        assertEquals(List.of(milk, rent), index.find("2025-03"));
+        assertEquals(List.of(rent), index.find("OUSIN"));
+    }
+
+    @Test
+    void testFind_shortKeyword() {
+        assertEquals(List.of(milk, salary), index.find("a"));
+    }
+
+    @Test
+    void testFind_multiWordKeywordMustMatchWithinOneField() {
+        assertEquals(List.of(milk), index.find("oat milk"));
+        assertTrue(index.find("milk food").isEmpty());
+    }
+
+    @Test
+    void testFind_removedEntryNotFound() {
+        index.remove(milk);
+        assertTrue(index.find("milk").isEmpty());
+        assertEquals(List.of(rent), index.find("rent"));
+    }
+
+    @Test
+    void testFind_editedEntryKeepsIdAndMatchesNewFields() {
+        Expense cheese = new Expense("Cheese", 6.00, "Dairy", "2025-03-02");
+        cheese.assignId(milk.getId());
+        index.remove(milk);
+        index.add(cheese);
+
+        assertTrue(index.find("milk").isEmpty());
+        assertEquals(List.of(cheese, rent), index.find("2025-03"));
+        assertEquals(List.of(cheese), index.find("dairy"));
+    }
+
+    @Test
+    void testRemove_manyEntries_rebuildsWithoutStaleIds() {
+        for (int id = 3; id < 503; id++) {
+            Expense snack = new Expense("Snack " + id, 1.00, "Food", "no date");
+            snack.assignId(id);
+            index.add(snack);
+            index.remove(snack);
+        }
+
+        assertTrue(index.getStalePostingCount() < 256);
+        assertEquals(List.of(milk), index.find("food"));
+        assertTrue(index.find("snack").isEmpty());
+    }
+
+    @Test
+    void testReplace_sameTokens_noStalePostings() {
+        Expense current = milk;
+        for (int i = 1; i <= 300; i++) {
+            Expense pricier = new Expense("Oat Milk", 4.50 + i, "Food", "2025-03-28");
+            pricier.assignId(milk.getId());
+            index.replace(current, pricier);
+            current = pricier;
+        }
+
+        assertEquals(0, index.getStalePostingCount());
+        assertEquals(List.of(current), index.find("oat milk"));
+    }
+
+    @Test
+    void testReplace_oneEntryEditedManyTimes_rebuilds() {
+        Expense current = milk;
+        for (int i = 1; i <= 1000; i++) {
+            Expense renamed = new Expense("Snack " + i, 1.00, "Food", "2025-03-28");
+            renamed.assignId(milk.getId());
+            index.replace(current, renamed);
+            current = renamed;
+        }
+
+        // Each edit drops one token, so without a rebuild there would be 1000 stale postings
+        assertTrue(index.getStalePostingCount() < 256);
+        assertEquals(List.of(current), index.find("snack 1000"));
+        assertTrue(index.find("snack 999").isEmpty());
+        assertTrue(index.find("oat").isEmpty());
+        assertEquals(List.of(current, rent), index.find("2025-03"));
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for loading saved entries on demand in MoneyList.
+ * Checks that entries added before the saved entries are read end up after them,
+ * and that saved entries which cannot be read are never written over.
+ */
+public class LazyLoadingTest {
+    private File directory;
+
+    @BeforeEach
+    public void setUp(@TempDir Path tempDir) throws MTException {
+        directory = tempDir.toFile();
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        entries.add(Income.ofCents("Salary", 100000, "no date"));
+        new Storage(directory, true).saveLedger(entries);
+    }
+
+    @Test
+    void testAddExpense_beforeLoading_keptAfterSavedEntries() throws MTException {
+        MoneyList moneyList = openMoneyList(directory);
+        moneyList.addExpense("addExp Bus $/1.50 c/Transport");
+
+        List<Entry> entries = moneyList.getMoneyList();
+        assertEquals(3, entries.size());
+        assertEquals("Lunch", entries.get(0).getDescription());
+        assertEquals("Bus", entries.get(2).getDescription());
+        assertEquals(1400, moneyList.getTotalExpenseCents(null));
+
+        List<Entry> reloaded = openMoneyList(directory).getMoneyList();
+        assertEquals(3, reloaded.size());
+        assertEquals("Bus", reloaded.get(2).getDescription());
+    }
+
+    @Test
+    void testDeleteEntry_loadsSavedEntriesFirst() throws MTException {
+        MoneyList moneyList = openMoneyList(directory);
+        moneyList.deleteEntry("delete 1");
+
+        List<Entry> reloaded = openMoneyList(directory).getMoneyList();
+        assertEquals(1, reloaded.size());
+        assertEquals("Salary", reloaded.get(0).getDescription());
+    }
+
+    @Test
+    void testAddExpense_unreadableSavedEntries_snapshotNotOverwritten() throws MTException, IOException {
+        Path snapshot = directory.toPath().resolve("mt.dat");
+        byte[] savedBytes = Files.readAllBytes(snapshot);
+        Storage storage = new Storage(directory, true) {
+            @Override
+            public LazyLedger openLedger() {
+                return new LazyLedger(2, () -> {
+                    throw new MTException("Error loading entries: corrupt file");
+                });
+            }
+
+            @Override
+            public boolean isCompactionDue() {
+                return true;
+            }
+        };
+        MoneyList moneyList = new MoneyList(new MTLogger(LazyLoadingTest.class.getName()), storage, new TextUI());
+        moneyList.loadEntriesFromFile();
+
+        // Compaction is due after the add, and reading the saved entries for it fails
+        moneyList.addExpense("addExp Bus $/1.50 c/Transport");
+        assertThrows(MTException.class, () -> moneyList.deleteEntry("delete 1"));
+        assertThrows(MTException.class, () -> moneyList.clearEntries());
+        moneyList.saveRollup();
+
+        assertEquals(1, moneyList.getMoneyList().size());
+        assertArrayEquals(savedBytes, Files.readAllBytes(snapshot));
+        assertFalse(Files.exists(directory.toPath().resolve("rollup.txt")));
+
+        // The new entry was journaled after the saved ones, which are still there once they can be read
+        List<Entry> reloaded = openMoneyList(directory).getMoneyList();
+        assertEquals(3, reloaded.size());
+        assertEquals("Bus", reloaded.get(2).getDescription());
+    }
+
+    @Test
+    void testClearEntries_savedEntriesCannotBeOpened_snapshotNotOverwritten() throws MTException, IOException {
+        Path snapshot = directory.toPath().resolve("mt.dat");
+        byte[] savedBytes = Files.readAllBytes(snapshot);
+        Storage storage = new Storage(directory, true) {
+            @Override
+            public LazyLedger openLedger() throws MTException {
+                throw new MTException("Error loading entries: corrupt header");
+            }
+
+            @Override
+            public boolean isCompactionDue() {
+                return true;
+            }
+        };
+        MoneyList moneyList = new MoneyList(new MTLogger(LazyLoadingTest.class.getName()), storage, new TextUI());
+        assertThrows(MTException.class, moneyList::loadEntriesFromFile);
+
+        assertThrows(MTException.class, () -> moneyList.addExpense("addExp Bus $/1.50 c/Transport"));
+        assertThrows(MTException.class, () -> moneyList.addIncome("addIncome Bonus $/20"));
+        assertThrows(MTException.class, () -> moneyList.clearEntries());
+        moneyList.saveRollup();
+
+        assertEquals(0, moneyList.getMoneyList().size());
+        assertArrayEquals(savedBytes, Files.readAllBytes(snapshot));
+        assertEquals(2, openMoneyList(directory).getMoneyList().size());
+    }
+
+    @Test
+    void testReadSavedEntries_unreadable_failsBeforeAnyChange() throws MTException {
+        Storage storage = new Storage(directory, true) {
+            @Override
+            public LazyLedger openLedger() {
+                return new LazyLedger(2, () -> {
+                    throw new MTException("Error loading entries: corrupt file");
+                });
+            }
+        };
+        MoneyList moneyList = new MoneyList(new MTLogger(LazyLoadingTest.class.getName()), storage, new TextUI());
+        moneyList.loadEntriesFromFile();
+
+        assertThrows(MTException.class, moneyList::readSavedEntries);
+
+        MoneyList readable = openMoneyList(directory);
+        readable.readSavedEntries();
+        assertEquals(2, readable.getMoneyList().size());
+    }
+
+    private static MoneyList openMoneyList(File directory) throws MTException {
+        MoneyList moneyList = new MoneyList(new MTLogger(LazyLoadingTest.class.getName()),
+                new Storage(directory, true), new TextUI());
+        moneyList.loadEntriesFromFile();
+        return moneyList;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for LedgerSnapshot.
+ * Checks that entries survive a write and read unchanged, whatever their dates look like.
+ */
+public class LedgerSnapshotTest {
+
+    @Test
+    void testWriteAndRead_roundTrip(@TempDir Path tempDir) throws IOException, MTException {
+        List<Entry> entries = List.of(
+                Expense.ofCents("Lunch", 1250, "Food", "2025-03-01"),
+                Income.ofCents("Salary", 300000, "no date"),
+                Expense.ofCents("Café au lait", 480, "Food", "tomorrow"),
+                Expense.ofCents("Bus", 150, "Transport", "1969-12-31"));
+        Path file = tempDir.resolve("mt.dat");
+
+        write(entries, file);
+        ArrayList<Entry> loaded = LedgerSnapshot.read(file);
+
+        assertEquals(new LedgerSnapshot.Header(entries.size(), 3, entries.size()), LedgerSnapshot.readHeader(file));
+        assertEquals(entries.size(), loaded.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).toString(), loaded.get(i).toString());
+        }
+        assertSame(((Expense) loaded.get(0)).getCategory(), ((Expense) loaded.get(2)).getCategory());
+    }
+
+    @Test
+    void testWriteAndRead_keepsEntryIds(@TempDir Path tempDir) throws IOException, MTException {
+        Entry lunch = Expense.ofCents("Lunch", 1250, "Food", "2025-03-01");
+        Entry salary = Income.ofCents("Salary", 300000, "no date");
+        lunch.assignId(3);
+        salary.assignId(7);
+        Path file = tempDir.resolve("mt.dat");
+
+        write(List.of(lunch, salary), file);
+        ArrayList<Entry> loaded = LedgerSnapshot.read(file);
+
+        assertEquals(3, loaded.get(0).getId());
+        assertEquals(7, loaded.get(1).getId());
+        assertEquals(8, LedgerSnapshot.readHeader(file).nextEntryId());
+    }
+
+    @Test
+    void testWriteAndRead_emptyLedger(@TempDir Path tempDir) throws IOException, MTException {
+        Path file = tempDir.resolve("mt.dat");
+
+        write(List.of(), file);
+
+        assertEquals(0, LedgerSnapshot.read(file).size());
+    }
+
+    @Test
+    void testRead_notASnapshot(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("mt.dat");
+        Files.writeString(file, "Expense: Lunch $12.50 {Food} [no date]\n");
+
+        assertThrows(MTException.class, () -> LedgerSnapshot.read(file));
+    }
+
+    @Test
+    void testEpochDays_onlyIsoDatesConverted() {
+        assertEquals(0, EpochDays.parse("1970-01-01"));
+        assertEquals("2024-02-29", EpochDays.format(EpochDays.parse("2024-02-29")));
+        assertEquals(EpochDays.NONE, EpochDays.parse("2023-02-29"));
+        assertEquals(EpochDays.NONE, EpochDays.parse("no date"));
+        assertEquals(EpochDays.NONE, EpochDays.parse("2024-1-05"));
+    }
+
+    private static void write(List<? extends Entry> entries, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            LedgerSnapshot.write(entries, 3, out);
+        }
+    }
+}
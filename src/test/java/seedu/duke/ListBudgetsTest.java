@@ -7,7 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 
 /**
@@ -24,9 +26,9 @@ public class ListBudgetsTest {
      * Sets up the environment.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
         moneyList = new MoneyList(logger, storage, ui);
     }
@@ -2,11 +2,13 @@ package seedu.duke;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -15,6 +17,8 @@ import java.util.List;
  * This test suite verifies the behavior of both public and private methods.
  */
 public class ListCatsTest {
+    private static final int CAPTURE_CAPACITY = 100;
+
     private MoneyList moneyList; // Instance of MoneyList for testing
     private MTLogger logger; // Logger used by MoneyList
     private Storage storage; // Storage object used by MoneyList
@@ -24,11 +28,11 @@ public class ListCatsTest {
      * Sets up the dependencies and initializes the MoneyList before each test.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         // Initialize dependencies
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
-        ui = new TextUI();
+        storage = new Storage(tempDir.toFile(), true);
+        ui = new TextUI(CAPTURE_CAPACITY);
 
         // Create a new MoneyList instance
         moneyList = new MoneyList(logger, storage, ui);
@@ -58,9 +62,9 @@ public class ListCatsTest {
     @Test
     public void testListCats_nonEmptyList () {
         // Populate the money list with sample entries
-        moneyList.getMoneyList().add("[Expense] Entry 1 $25.25 {Cat 1} (no date)");
-        moneyList.getMoneyList().add("[Expense] Entry 2 $50.505 {Cat 2} (28-3-25)");
-        moneyList.getMoneyList().add("[Expense] Entry 3 $75.075 {Uncategorized} (no date)");
+        moneyList.addEntry(new Expense("Entry 1", 25.25, "Cat 1", null));
+        moneyList.addEntry(new Expense("Entry 2", 50.505, "Cat 2", "28-3-25"));
+        moneyList.addEntry(new Expense("Entry 3", 75.075, null, null));
 
         // Call listCats() method
         moneyList.listCats();
@@ -76,20 +80,16 @@ public class ListCatsTest {
     }
 
     /**
-     * Test case for the private method extractCategoryFromEntry using reflection.
+     * Test case for parsing the category of a saved expense string.
      * Verifies that a valid category is extracted correctly.
      */
     @Test
-    public void testExtractCategoryFromEntry_validEntry() throws Exception {
+    public void testParseCategory_validEntry() throws Exception {
         // Sample entry string
-        String entry = "[Expense] Entry 1 $25.25 {Cat 1} (no date)";
-
-        // Access the private method extractCategoryFromEntry using reflection
-        Method method = MoneyList.class.getDeclaredMethod("extractCategoryFromEntry", String.class);
-        method.setAccessible(true);
+        String entry = "Expense: Entry 1 $25.25 {Cat 1} [no date]";
 
-        // Invoke the method and verify the result
-        String category = (String) method.invoke(moneyList, entry);
+        // Parse the entry and verify the result
+        String category = Expense.parseString(entry).getCategory();
         assertEquals("Cat 1", category, "Expected category 'Cat 1' to be extracted.");
     }
 
@@ -100,9 +100,10 @@ public class ListCatsTest {
     @Test
     public void testExtractUniqueCategories_nonEmptyList() throws Exception {
         // Populate the money list with sample entries
-        moneyList.getMoneyList().add("[Expense] Entry 1 $25.25 {Cat 1} (no date)");
-        moneyList.getMoneyList().add("[Expense] Entry 2 $50.50 {Cat 2} (28-3-25)");
-        moneyList.getMoneyList().add("[Expense] Entry 3 $75.07 {Uncategorized} (no date)");
+        moneyList.addEntry(new Expense("Entry 1", 25.25, "Cat 1", null));
+        moneyList.addEntry(new Expense("Entry 2", 50.50, "Cat 2", "28-3-25"));
+        moneyList.addEntry(new Income("Salary", 1000.00, null));
+        moneyList.addEntry(new Expense("Entry 3", 75.07, null, null));
 
         // Access the private method extractUniqueCategories using reflection
         Method method = MoneyList.class.getDeclaredMethod("extractUniqueCategories");
@@ -114,6 +115,7 @@ public class ListCatsTest {
         assertTrue(categories.contains("Cat 1"), "Expected 'Cat 1' in extracted categories.");
         assertTrue(categories.contains("Cat 2"), "Expected 'Cat 2' in extracted categories.");
         assertTrue(categories.contains("Uncategorized"), "Expected 'Uncategorized' in extracted categories.");
+        assertEquals(3, categories.size(), "Incomes should not contribute a category.");
     }
 
     /**
@@ -1,11 +1,18 @@
 // @@author EdwinTun98
 package seedu.duke;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for the listSummary functionality in MoneyList.
@@ -24,10 +31,10 @@ public class ListSummaryTest {
      * Sets up the dependencies and initializes the MoneyList before each test.
      */
     @BeforeEach
-    public void setUp() {
+    public void setUp(@TempDir Path tempDir) {
         // Initialize dependencies
         logger = new MTLogger(MoneyTrail.class.getName());
-        storage = new Storage();
+        storage = new Storage(tempDir.toFile(), true);
         ui = new TextUI();
 
         // Create a new MoneyList instance
@@ -54,11 +61,56 @@ public class ListSummaryTest {
     @Test
     void testListSummary_nonEmptyList() {
         // Add sample expenses to the moneyList
-        moneyList.getMoneyList().add("[Expense] Milk $10.00 |Food| (2025-03-28)");
-        moneyList.getMoneyList().add("[Expense] Rent $500.00 |Housing| (2025-03-01)");
-        moneyList.getMoneyList().add("[Expense] Coffee $5.00 |Food| (2025-03-29)");
+        moneyList.addEntry(new Expense("Milk", 10.00, "Food", "2025-03-28"));
+        moneyList.addEntry(new Expense("Rent", 500.00, "Housing", "2025-03-01"));
+        moneyList.addEntry(new Expense("Coffee", 5.00, "Food", "2025-03-29"));
 
         // Ensure no exception is thrown and the summary is displayed
         assertDoesNotThrow(() -> moneyList.listSummary());
     }
+
+    /**
+     * Test case for listing a page and the tail of the list after a delete.
+     * Verifies that only the window is printed, with the same entry numbers as the full list.
+     */
+    @Test
+    void testListSummary_pageAndTail() throws MTException {
+        TextUI captureUi = new TextUI(10);
+        MoneyList pagedList = new MoneyList(logger, storage, captureUi);
+        for (int i = 1; i <= 8; i++) {
+            pagedList.addEntry(new Expense("Item " + i, i, "Food", "no date"));
+        }
+        pagedList.deleteEntry("delete 2");
+
+        pagedList.listSummary(ListWindow.parse("page/2 size/3"));
+        List<String> printed = captureUi.getPrintedMessages();
+        assertEquals("Entries 4 to 6 of 7:", printed.get(printed.size() - 4));
+        assertEquals("4: Expense: Item 5 $5.00 {Food} [no date]", printed.get(printed.size() - 3));
+        assertEquals("6: Expense: Item 7 $7.00 {Food} [no date]", printed.get(printed.size() - 1));
+
+        pagedList.listSummary(ListWindow.parse("tail/2"));
+        printed = captureUi.getPrintedMessages();
+        assertEquals("Entries 6 to 7 of 7:", printed.get(printed.size() - 3));
+        assertEquals("7: Expense: Item 8 $8.00 {Food} [no date]", printed.get(printed.size() - 1));
+
+        MTException error = assertThrows(MTException.class,
+                () -> pagedList.listSummary(ListWindow.parse("page/4 size/3")));
+        assertEquals("Page 4 is past the end of the list, which has 3 page(s) of 3 entries.", error.getMessage());
+    }
+
+    /**
+     * Test case for writing the list to a file.
+     * Verifies that every entry is written with its entry number.
+     */
+    @Test
+    void testListSummaryToFile_writesNumberedEntries(@TempDir Path tempDir) throws MTException, IOException {
+        moneyList.addEntry(new Expense("Milk", 10.00, "Food", "2025-03-28"));
+        moneyList.addEntry(new Income("Salary", 500.00, "2025-03-01"));
+        Path listing = tempDir.resolve("list.txt");
+
+        moneyList.listSummaryToFile(listing.toString());
+
+        assertEquals(List.of("1: Expense: Milk $10.00 {Food} [2025-03-28]", "2: Income: Salary $500.00 [2025-03-01]"),
+                Files.readAllLines(listing));
+    }
 }
@@ -0,0 +1,118 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MTLogger.
+ * Checks that message patterns are filtered by the configured level and formatted as expected.
+ */
+public class MTLoggerTest {
+    private static final String LOG_LEVEL_PROPERTY = "moneytrail.log.level";
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(LOG_LEVEL_PROPERTY);
+    }
+
+    @Test
+    void testLogInfo_countPatternNotGrouped() {
+        String name = MTLoggerTest.class.getName() + ".count";
+        MTLogger logger = new MTLogger(name);
+        List<LogRecord> records = captureRecords(name);
+
+        logger.logInfo("Loaded {0,number,#} entries from file.", 1_000_000);
+
+        assertEquals(1, records.size());
+        assertEquals("Loaded 1000000 entries from file.", new SimpleFormatter().formatMessage(records.get(0)));
+    }
+
+    @Test
+    void testLogInfo_filteredByProperty() {
+        System.setProperty(LOG_LEVEL_PROPERTY, "WARNING");
+        String name = MTLoggerTest.class.getName() + ".quiet";
+        MTLogger logger = new MTLogger(name);
+        List<LogRecord> records = captureRecords(name);
+
+        logger.logInfo("Read {0,number,#} saved entries.", 3);
+        logger.logFine("Description: {0}", "Lunch");
+        logger.logWarning("Skipped {0,number,#} unreadable journal records", 2);
+
+        assertEquals(1, records.size());
+        assertEquals("Skipped 2 unreadable journal records", new SimpleFormatter().formatMessage(records.get(0)));
+    }
+
+    @Test
+    void testLogInfo_twoValues_formattedInOrder() {
+        String name = MTLoggerTest.class.getName() + ".pair";
+        MTLogger logger = new MTLogger(name);
+        List<LogRecord> records = captureRecords(name);
+
+        logger.logInfo("Listed {0,number,#} entries to {1}", 1234, "out.txt");
+        logger.logInfo("Set budget: {0} = {1}", "Food", "12.50");
+        logger.logWarning("Error processing line {0,number,#}: {1}", 7, "Unknown command");
+
+        assertEquals(3, records.size());
+        SimpleFormatter formatter = new SimpleFormatter();
+        assertEquals("Listed 1234 entries to out.txt", formatter.formatMessage(records.get(0)));
+        assertEquals("Set budget: Food = 12.50", formatter.formatMessage(records.get(1)));
+        assertEquals("Error processing line 7: Unknown command", formatter.formatMessage(records.get(2)));
+    }
+
+    @Test
+    void testLogFine_filteredByDefault() {
+        String name = MTLoggerTest.class.getName() + ".default";
+        MTLogger logger = new MTLogger(name);
+        List<LogRecord> records = captureRecords(name);
+
+        logger.logFine("Skipping journal record for missing entry {0,number,#}", 5000);
+        logger.logFine("Skipping malformed entry: {0}", "not an entry");
+
+        assertEquals(0, records.size());
+    }
+
+    @Test
+    void testLogFine_enabledByProperty() {
+        System.setProperty(LOG_LEVEL_PROPERTY, "FINE");
+        String name = MTLoggerTest.class.getName() + ".fine";
+        MTLogger logger = new MTLogger(name);
+        List<LogRecord> records = captureRecords(name);
+
+        logger.logFine("Skipping malformed entry: {0}", "not an entry");
+
+        assertEquals(1, records.size());
+        assertTrue(new SimpleFormatter().formatMessage(records.get(0)).endsWith("not an entry"));
+    }
+
+    /**
+     * Collects every record the named logger passes to its handlers.
+     */
+    private static List<LogRecord> captureRecords(String name) {
+        List<LogRecord> records = new ArrayList<>();
+        Logger.getLogger(name).addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return records;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MarkerScanner.
+ * Checks that fields are sliced between markers in any order and that markers in descriptions are ignored.
+ */
+public class MarkerScannerTest {
+
+    @Test
+    void testScanEntry_allFields() {
+        MarkerScanner markers = MarkerScanner.scanEntry("addExp Lunch $/12.50 c/Food d/2025-03-01", 6, true);
+
+        assertEquals("Lunch", markers.leadingText());
+        assertEquals(1250, markers.centsOf(MarkerScanner.AMOUNT));
+        assertEquals("Food", markers.valueOf(MarkerScanner.CATEGORY));
+        assertEquals("2025-03-01", markers.valueOf(MarkerScanner.DATE));
+    }
+
+    @Test
+    void testScanEntry_dateBeforeCategory() {
+        MarkerScanner markers = MarkerScanner.scanEntry("Taxi $/20 d/2025-03-01 c/Transport", 0, true);
+
+        assertEquals("20", markers.valueOf(MarkerScanner.AMOUNT));
+        assertEquals("Transport", markers.valueOf(MarkerScanner.CATEGORY));
+        assertEquals("2025-03-01", markers.valueOf(MarkerScanner.DATE));
+    }
+
+    @Test
+    void testScanEntry_markersInDescriptionIgnored() {
+        MarkerScanner markers = MarkerScanner.scanEntry("abc/def $/5", 0, true);
+
+        assertEquals("abc/def", markers.leadingText());
+        assertFalse(markers.has(MarkerScanner.CATEGORY));
+        assertEquals("Uncategorized", markers.valueOf(MarkerScanner.CATEGORY, "Uncategorized"));
+    }
+
+    @Test
+    void testScanEntry_withoutCategoryMarker() {
+        MarkerScanner markers = MarkerScanner.scanEntry("Salary $/5 c/x", 0, false);
+
+        assertEquals("5 c/x", markers.valueOf(MarkerScanner.AMOUNT));
+        assertThrows(NumberFormatException.class, () -> markers.centsOf(MarkerScanner.AMOUNT));
+    }
+
+    @Test
+    void testScanEntry_countsDuplicateMarkers() {
+        MarkerScanner markers = MarkerScanner.scanEntry("Lunch $/5 c/Food c/Drinks", 0, true);
+
+        assertEquals(2, markers.count(MarkerScanner.CATEGORY));
+        assertEquals(0, markers.count(MarkerScanner.DATE));
+    }
+
+    @Test
+    void testScanOptions_descriptionAndCategory() {
+        MarkerScanner markers = MarkerScanner.scanOptions("1 Dinner c/Food", 2);
+
+        assertEquals("Dinner", markers.leadingText());
+        assertEquals("Food", markers.valueOf(MarkerScanner.CATEGORY));
+        assertNull(markers.valueOf(MarkerScanner.AMOUNT));
+    }
+}
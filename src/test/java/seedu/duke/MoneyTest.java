@@ -0,0 +1,93 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for Money parsing and formatting of cent amounts.
+ */
+public class MoneyTest {
+
+    @Test
+    void testParseCents_plainDecimals() {
+        assertEquals(1200, Money.parseCents("12"));
+        assertEquals(1250, Money.parseCents(" 12.5 "));
+        assertEquals(1205, Money.parseCents("12.05"));
+        assertEquals(-345, Money.parseCents("-3.45"));
+    }
+
+    @Test
+    void testParseCents_roundsLikeDecimalFormat() {
+        assertEquals(12346, Money.parseCents("123.456"));
+        assertEquals(12345, Money.parseCents("123.4549"));
+        assertEquals(1, Money.parseCents("0.005"));
+        // Exact ties round to even, and 2.675 is slightly below 2.675 as a double
+        assertEquals(12, Money.parseCents("0.125"));
+        assertEquals(38, Money.parseCents("0.375"));
+        assertEquals(-12, Money.parseCents("-0.125"));
+        assertEquals(267, Money.parseCents("2.675"));
+        assertEquals(12, Money.parseCents("0.1250"));
+    }
+
+    @Test
+    void testToCents_roundsLikeParseCents() {
+        assertEquals(12, Money.toCents(0.125));
+        assertEquals(267, Money.toCents(2.675));
+        assertEquals(-12, Money.toCents(-0.125));
+        assertEquals(1250, Money.toCents(12.5));
+    }
+
+    @Test
+    void testParseCentsLeniently_exponentForm() {
+        assertEquals(1000000000L, Money.parseCentsLeniently("1.0E7"));
+        assertEquals(50, Money.parseCentsLeniently(".5"));
+        assertEquals(1250, Money.parseCentsLeniently("12.50"));
+    }
+
+    @Test
+    void testParseCents_rejectsFormsNotTyped() {
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("+5"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents(".5"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("5."));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1e5"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("-"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("+0.125"));
+    }
+
+    @Test
+    void testToText_noExponent() {
+        assertEquals("12.5", Money.toText(12.5));
+        assertEquals("10000000", Money.toText(1.0E7));
+        assertEquals(1000000000L, Money.parseCents(Money.toText(1.0E7)));
+    }
+
+    @Test
+    void testParseCents_invalidInput() {
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("12.5.3"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents(""));
+    }
+
+    @Test
+    void testFormat_twoDecimalPlaces() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("12.50", Money.format(1250));
+        assertEquals("-3.45", Money.format(-345));
+    }
+
+    @Test
+    void testSums_areExact(@TempDir Path tempDir) {
+        MoneyList moneyList = new MoneyList(new MTLogger(MoneyTrail.class.getName()),
+                new Storage(tempDir.toFile(), true), new TextUI());
+        for (int i = 0; i < 10; i++) {
+            moneyList.addEntry(new Expense("Snack", 0.10, "Food", null));
+        }
+        assertEquals(100, moneyList.getTotalExpenseCents("food"));
+    }
+}
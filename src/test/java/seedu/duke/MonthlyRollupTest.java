@@ -0,0 +1,90 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for MonthlyRollup.
+ * Checks that totals follow added and removed expenses, and that saved totals are only
+ * used while the saved ledger is unchanged, without reading the entries.
+ */
+public class MonthlyRollupTest {
+
+    @Test
+    void testAddAndRemove_updatesCells() {
+        CategoryDictionary categories = new CategoryDictionary();
+        MonthlyRollup rollup = new MonthlyRollup(categories);
+        Expense lunch = Expense.ofCents("Lunch", 1200, "Food", "2025-03-05");
+        Expense dinner = Expense.ofCents("Dinner", 2000, "food", "2025-03-20");
+        Expense snack = Expense.ofCents("Snack", 300, "Food", "no date");
+        rollup.add(lunch);
+        rollup.add(dinner);
+        rollup.add(snack);
+        rollup.add(Income.ofCents("Salary", 100000, "2025-03-01"));
+
+        int food = categories.findCategoryId("Food");
+        assertEquals(food, categories.findCategoryId(dinner.getCategory()));
+        assertEquals(3200, rollup.getCents(202503, food));
+        assertEquals(300, rollup.getCents(MonthlyRollup.NO_MONTH, food));
+        assertEquals(Set.of(202503, MonthlyRollup.NO_MONTH), rollup.getMonths());
+
+        rollup.remove(lunch);
+        rollup.remove(dinner);
+        assertFalse(rollup.hasCell(202503, food));
+        rollup.remove(snack);
+        assertTrue(rollup.isEmpty());
+        assertTrue(rollup.getCategoryIds().isEmpty());
+    }
+
+    @Test
+    void testPrintSummary_usesSavedTotalsWithoutReadingEntries(@TempDir Path tempDir) throws MTException {
+        Storage storage = new Storage(tempDir.toFile(), true);
+        MoneyList saved = new MoneyList(new MTLogger(MonthlyRollupTest.class.getName()), storage, new TextUI());
+        saved.addEntry(Expense.ofCents("Lunch", 1200, "Food", "2025-03-05"));
+        saved.addEntry(Expense.ofCents("Bus", 150, "Transport", "2025-04-01"));
+        storage.saveLedger(saved.getMoneyList());
+        saved.saveRollup();
+
+        Storage unreadable = new Storage(tempDir.toFile(), true) {
+            @Override
+            public LazyLedger openLedger() {
+                return new LazyLedger(2, () -> {
+                    throw new MTException("entries should not be read");
+                });
+            }
+        };
+        TextUI ui = new TextUI(10);
+        MoneyList moneyList = new MoneyList(new MTLogger(MonthlyRollupTest.class.getName()), unreadable, ui);
+        moneyList.loadEntriesFromFile();
+        moneyList.printSummary();
+
+        List<String> printed = ui.getPrintedMessages();
+        assertEquals("Month      Food       Transport  Total", printed.get(2));
+        assertEquals("2025-03    12.00      -          12.00", printed.get(3));
+        assertEquals("2025-04    -          1.50       1.50", printed.get(4));
+    }
+
+    @Test
+    void testLoadRollup_ignoresTotalsOlderThanLedger(@TempDir Path tempDir) throws MTException {
+        Storage storage = new Storage(tempDir.toFile(), true);
+        storage.saveLedger(List.of(Expense.ofCents("Lunch", 1200, "Food", "2025-03-05")));
+        CategoryDictionary categories = new CategoryDictionary();
+        MonthlyRollup rollup = new MonthlyRollup(categories);
+        int food = categories.categoryIdOf("Food");
+        rollup.add(202503, food, 1200, 1);
+        storage.saveRollup(rollup);
+        assertEquals(1200, storage.loadRollup(categories).getCents(202503, food));
+
+        storage.appendEntry(1, Expense.ofCents("Dinner", 2000, "Food", "2025-03-20").toString());
+        assertNull(storage.loadRollup(categories));
+    }
+}
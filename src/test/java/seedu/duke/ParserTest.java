@@ -0,0 +1,144 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for Parser.
+ * Checks that each command keyword is dispatched to the right command and that unknown input is rejected.
+ */
+public class ParserTest {
+    private static final String UNKNOWN_COMMAND = "Unknown command. Type 'help' for a list of available commands.";
+
+    private Parser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new Parser();
+    }
+
+    @Test
+    void testParseCommand_dispatchesByKeyword() throws MTException {
+        assertInstanceOf(ListCommand.class, parser.parseCommand("list"));
+        assertInstanceOf(ListCommand.class, parser.parseCommand("  LIST  "));
+        assertInstanceOf(ListCatsCommand.class, parser.parseCommand("listCat"));
+        assertInstanceOf(ExitCommand.class, parser.parseCommand("exit"));
+        assertInstanceOf(FindCommand.class, parser.parseCommand("find coffee"));
+        assertInstanceOf(DeleteCommand.class, parser.parseCommand("del 2"));
+        assertInstanceOf(AddExpenseCommand.class, parser.parseCommand("addExp Lunch $/12.50 c/Food"));
+        assertInstanceOf(AddIncomeCommand.class, parser.parseCommand("addIncome Salary $/3000"));
+        assertInstanceOf(BudgetCommand.class, parser.parseCommand("setTotBgt 500"));
+    }
+
+    @Test
+    void testParseCommand_totalExpWithoutArguments() throws MTException {
+        assertInstanceOf(TotalExpenseCommand.class, parser.parseCommand("totalExp"));
+        assertInstanceOf(TotalExpenseCommand.class, parser.parseCommand("totalExp "));
+
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("totalExp now"));
+        assertEquals(UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    void testParseCommand_caseOfKeyword() throws MTException {
+        // Commands without arguments, and list, match ignoring case
+        assertInstanceOf(TotalExpenseCommand.class, parser.parseCommand("TOTALEXP"));
+        assertInstanceOf(ListBudgetCommand.class, parser.parseCommand("listbgt"));
+        assertInstanceOf(ListCommand.class, parser.parseCommand("List from/2025-03-01"));
+
+        // Commands with arguments must be typed exactly
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("addexp Lunch $/12.50"));
+        assertEquals(UNKNOWN_COMMAND, error.getMessage());
+        error = assertThrows(MTException.class, () -> parser.parseCommand("FIND coffee"));
+        assertEquals(UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    void testParseCommand_unknownCommand() {
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("lists"));
+        assertEquals(UNKNOWN_COMMAND, error.getMessage());
+
+        error = assertThrows(MTException.class, () -> parser.parseCommand("list everything"));
+        assertEquals(UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    void testParseCommand_missingArguments() {
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("find"));
+        assertEquals("Please enter a keyword to search.", error.getMessage());
+
+        assertThrows(MTException.class, () -> parser.parseCommand("del"));
+    }
+
+    @Test
+    void testParseCommand_dateRangeOptions() throws MTException {
+        assertInstanceOf(ListCommand.class, parser.parseCommand("list from/2025-03-01 to/2025-03-31"));
+        assertInstanceOf(CheckExpensesCommand.class, parser.parseCommand("check Fast Food from/2025-03-01"));
+
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("list from/March"));
+        assertEquals("Invalid date: March. Dates must be in yyyy-MM-dd form.", error.getMessage());
+        assertThrows(MTException.class, () -> parser.parseCommand("check from/2025-03-01"));
+    }
+
+    @Test
+    void testParseCommand_listWindowOptions() throws MTException {
+        assertInstanceOf(ListWindowCommand.class, parser.parseCommand("list page/2 size/50"));
+        assertInstanceOf(ListWindowCommand.class, parser.parseCommand("list tail/20"));
+        assertInstanceOf(ListToFileCommand.class, parser.parseCommand("list file/list.txt"));
+        assertEquals(new ListWindow(1, 10, false), ListWindow.parse("size/10"));
+
+        MTException error = assertThrows(MTException.class, () -> parser.parseCommand("list page/0"));
+        assertEquals("Invalid number: 0. Pages and sizes must be positive whole numbers.", error.getMessage());
+        assertThrows(MTException.class, () -> parser.parseCommand("list tail/5 page/2"));
+        assertThrows(MTException.class, () -> parser.parseCommand("list file/"));
+    }
+
+    @Test
+    void testParseCommand_categoryBudgetWithSpaces(@TempDir Path tempDir) throws MTException {
+        String[] received = new String[2];
+        MoneyList moneyList = new MoneyList(new MTLogger(ParserTest.class.getName()),
+                new Storage(tempDir.toFile(), true), new TextUI()) {
+            @Override
+            public void setCategoryLimit(String category, String amount) {
+                received[0] = category;
+                received[1] = amount;
+            }
+        };
+
+        parser.parseCommand("setCatBgt c/Fast Food 50").execute(moneyList);
+
+        assertEquals("Fast Food", received[0]);
+        assertEquals("50", received[1]);
+    }
+
+    @Test
+    void testParseCommand_amountsRoundedFromTypedText(@TempDir Path tempDir) throws MTException {
+        MoneyList moneyList = new MoneyList(new MTLogger(ParserTest.class.getName()),
+                new Storage(tempDir.toFile(), true), new TextUI());
+
+        parser.parseCommand("addExp Tea $/0.125 c/Food").execute(moneyList);
+        assertEquals(12, moneyList.getMoneyList().get(0).getAmountCents());
+
+        parser.parseCommand("edit 1 $/2.675").execute(moneyList);
+        assertEquals(267, moneyList.getMoneyList().get(0).getAmountCents());
+
+        parser.parseCommand("addIncome Tip $/0.375").execute(moneyList);
+        assertEquals(38, moneyList.getMoneyList().get(1).getAmountCents());
+    }
+
+    @Test
+    void testParseCommand_amountNotPlainDecimal_rejected() {
+        assertThrows(MTException.class, () -> parser.parseCommand("addExp Tea $/+5"));
+        assertThrows(MTException.class, () -> parser.parseCommand("addIncome Tip $/.5"));
+        assertThrows(MTException.class, () -> parser.parseCommand("setTotBgt 1e5"));
+        assertThrows(MTException.class, () -> parser.parseCommand("setCatBgt c/Food 1e5"));
+        assertThrows(MTException.class, () -> parser.parseCommand("edit 1 $/1e5"));
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.duke;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
@@ -15,6 +14,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * Contains unit tests for the {@link Storage} class.
@@ -24,44 +25,35 @@ import java.util.ArrayList;
  */
 class StorageTest {
     private Storage storage;
-    private Path originalFilePath;
+    private Path directory;
 
     //@@author rchlai
     /**
      * Sets up the test environment before each test method execution.
-     * Backs up the original data file if it exists and
-     * initializes a new {@link Storage} instance.
+     * Initializes a new {@link Storage} instance that keeps its files in a temporary directory,
+     * so that data files in the working directory are never touched.
      *
      * @param tempDir The temporary directory provided by JUnit for test isolation
-     * @throws IOException If an I/O error occurs during file operations
-     *
      */
     @BeforeEach
-    void setUp(@TempDir Path tempDir) throws IOException {
-        // Backup original file if exists
-        originalFilePath = Path.of("mt.txt");
-
-        if (Files.exists(originalFilePath)) {
-            Files.move(originalFilePath,
-                    tempDir.resolve("mt_backup.txt"));
-        }
-
-        storage = new Storage(); // Using actual no-arg constructor
+    void setUp(@TempDir Path tempDir) {
+        directory = tempDir;
+        storage = newStorage();
     }
 
     /**
-     * Tests that loading entries from a non-existent file returns
+     * Tests that opening the ledger when no file exists returns
      * an empty list.
      * Verifies the Storage class handles missing files gracefully.
      *
      */
     @Test
-    void loadEntries_noFileExists_returnsEmptyList() {
+    void openLedger_noFileExists_returnsEmptyList() {
         // Ensure file doesn't exist
-        assertFalse(Files.exists(Path.of("mt.txt")));
+        assertFalse(Files.exists(directory.resolve("mt.dat")));
 
-        ArrayList<String> result = assertDoesNotThrow(
-                () -> storage.loadEntries());
+        List<Entry> result = assertDoesNotThrow(
+                () -> storage.openLedger().load());
 
         assertTrue(result.isEmpty(),
                 "Should return empty list when file doesn't exist");
@@ -78,24 +70,23 @@ class StorageTest {
      *
      */
     @Test
-    void saveAndLoadEntries_roundTrip_success() throws Exception {
-        // Prepare test data matching your actual expense format
-        ArrayList<String> testData = new ArrayList<>();
-        testData.add("[Expense] Lunch Value = $12.50 |Food| (2023-10-15)");
-        testData.add("[Expense] Bus Value = $1.50 |Transport| (2023-10-16)");
+    void saveAndOpenLedger_roundTrip_success() throws Exception {
+        ArrayList<Entry> testData = new ArrayList<>();
+        testData.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        testData.add(Expense.ofCents("Bus", 150, "Transport", "2023-10-16"));
 
         // Test save
-        assertDoesNotThrow(() -> storage.saveExpenses(testData));
-        assertTrue(Files.exists(Path.of("mt.txt")),
+        assertDoesNotThrow(() -> storage.saveLedger(testData));
+        assertTrue(Files.exists(directory.resolve("mt.dat")),
                 "File should be created");
 
         // Test load
-        ArrayList<String> loadedData = storage.loadEntries();
+        List<Entry> loadedData = newStorage().openLedger().load();
         assertEquals(2, loadedData.size(),
                 "Should load 2 entries");
-        assertEquals(testData.get(0), loadedData.get(0),
+        assertEquals(testData.get(0).toString(), loadedData.get(0).toString(),
                 "First entry should match");
-        assertEquals(testData.get(1), loadedData.get(1),
+        assertEquals(testData.get(1).toString(), loadedData.get(1).toString(),
                 "Second entry should match");
     }
 
@@ -111,37 +102,243 @@ class StorageTest {
      * @throws IOException If directory creation fails
      */
     @Test
-    void saveEntries_invalidFile_throwsException() throws IOException {
+    void saveLedger_invalidFile_throwsException() throws IOException {
         // Create a directory with the same name as the storage file
-        Files.createDirectory(Path.of("mt.txt"));
+        Files.createDirectory(directory.resolve("mt.dat"));
 
-        ArrayList<String> testData = new ArrayList<>();
-        testData.add("[Expense] Test Value = $10.00 |Test| (2023-10-17)");
+        ArrayList<Entry> testData = new ArrayList<>();
+        testData.add(Expense.ofCents("Test", 1000, "Test", "2023-10-17"));
 
         // Verify exception
         MTException thrown = assertThrows(MTException.class,
-                () -> storage.saveExpenses(testData));
+                () -> storage.saveLedger(testData));
 
         assertTrue(thrown.getMessage().contains("Error saving entries"));
     }
 
     /**
-     * Cleans up the test environment after each test method execution.
-     * Restores the original data file if it existed or deletes
-     * test files.
+     * Tests that journaled additions, edits and deletions are replayed
+     * on top of the snapshot when entries are loaded.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void openLedger_withJournal_replaysRecordsInOrder() throws Exception {
+        ArrayList<Entry> testData = new ArrayList<>();
+        testData.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        testData.add(Expense.ofCents("Bus", 150, "Transport", "2023-10-16"));
+        storage.saveLedger(testData);
+
+        storage.appendEntry(2, "Income: Salary $1000.00 [2023-10-17]");
+        storage.replaceEntry(0, "Expense: Dinner $20.00 {Food} [2023-10-15]");
+        storage.removeEntry(1);
+
+        List<Entry> loadedData = newStorage().openLedger().load();
+        assertEquals(2, loadedData.size(), "Should load 2 entries");
+        assertEquals("Expense: Dinner $20.00 {Food} [2023-10-15]", loadedData.get(0).toString());
+        assertEquals("Income: Salary $1000.00 [2023-10-17]", loadedData.get(1).toString());
+    }
+
+    /**
+     * Tests that saving a full snapshot discards previously journaled records.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void saveLedger_afterJournal_discardsJournal() throws Exception {
+        storage.appendEntry(0, "Expense: Lunch $12.50 {Food} [2023-10-15]");
+        assertTrue(Files.exists(directory.resolve("mt.journal")), "Journal should be created");
+
+        ArrayList<Entry> testData = new ArrayList<>();
+        testData.add(Expense.ofCents("Bus", 150, "Transport", "2023-10-16"));
+        storage.saveLedger(testData);
+
+        assertFalse(Files.exists(directory.resolve("mt.journal")), "Journal should be discarded");
+        assertEquals(List.of("Expense: Bus $1.50 {Transport} [2023-10-16]"),
+                toStrings(newStorage().openLedger().load()));
+    }
+
+    /**
+     * Tests that journal records find their entry by id, so that an edit made after a reload
+     * still changes the right entry once earlier entries were deleted.
      *
-     * @param tempDir The temporary directory provided by JUnit
-     * @throws IOException If an I/O error occurs during cleanup
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void openLedger_journalAfterReload_appliesRecordsById() throws Exception {
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        entries.add(Expense.ofCents("Bus", 150, "Transport", "2023-10-16"));
+        entries.add(Expense.ofCents("Tea", 300, "Food", "2023-10-17"));
+        storage.saveLedger(entries);
+        storage.removeEntry(0);
+
+        Storage reopened = newStorage();
+        List<Entry> loadedData = reopened.openLedger().load();
+        assertEquals(2, loadedData.get(1).getId());
+        reopened.replaceEntry(2, "Expense: Dinner $20.00 {Food} [2023-10-17]");
+        reopened.removeEntry(1);
+
+        assertEquals(List.of("Expense: Dinner $20.00 {Food} [2023-10-17]"),
+                toStrings(newStorage().openLedger().load()));
+        assertEquals(1, newStorage().openLedger().size());
+    }
+
+    /**
+     * Tests that journal records are not replayed onto a snapshot that already holds them,
+     * as after a crash between writing the snapshot and discarding the journal.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
      */
-    @AfterEach
-    void tearDown(@TempDir Path tempDir) throws IOException {
-        // Restore original file if it existed
-        if (Files.exists(tempDir.resolve("mt_backup.txt"))) {
-            Files.move(tempDir.resolve("mt_backup.txt"),
-                    originalFilePath);
-        } else {
-            // Clean up test file
-            Files.deleteIfExists(Path.of("mt.txt"));
+    @Test
+    void openLedger_journalLeftAfterSave_skipsOlderRecords() throws Exception {
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        entries.add(Expense.ofCents("Bus", 150, "Transport", "2023-10-16"));
+        storage.saveLedger(entries);
+        storage.appendEntry(2, "Income: Salary $1000.00 [2023-10-17]");
+        storage.removeEntry(0);
+        byte[] oldJournal = Files.readAllBytes(directory.resolve("mt.journal"));
+
+        Storage reopened = newStorage();
+        List<Entry> loadedData = reopened.openLedger().load();
+        reopened.saveLedger(loadedData);
+        Files.write(directory.resolve("mt.journal"), oldJournal);
+
+        List<String> expected = List.of("Expense: Bus $1.50 {Transport} [2023-10-16]",
+                "Income: Salary $1000.00 [2023-10-17]");
+        assertEquals(expected, toStrings(newStorage().openLedger().load()));
+        assertEquals(2, newStorage().openLedger().size());
+    }
+
+    /**
+     * Tests that a text file saved by an older version is parsed into typed entries,
+     * skipping lines that are not valid entries.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void openLedger_textFileWithMixedLines_parsesValidEntries() throws Exception {
+        Files.write(directory.resolve("mt.txt"), List.of(
+                "Expense: Lunch $12.50 {Food} [2023-10-15]",
+                "not an entry",
+                "Income: Salary $1000.00 [no date]"));
+        storage.appendEntry(2, "Expense: Bus $1.50 {Transport} [2023-10-16]");
+
+        List<Entry> loadedData = newStorage().openLedger().load();
+        assertEquals(3, loadedData.size(), "Should skip the malformed line");
+        assertTrue(loadedData.get(0) instanceof Expense);
+        assertEquals("Food", ((Expense) loadedData.get(0)).getCategory());
+        assertTrue(loadedData.get(1) instanceof Income);
+        assertEquals(1000.00, loadedData.get(1).getAmount());
+        assertEquals("Expense: Bus $1.50 {Transport} [2023-10-16]", loadedData.get(2).toString());
+    }
+
+    /**
+     * Tests that entries saved as a binary snapshot load back unchanged,
+     * with the journal replayed on top.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void saveLedger_binarySnapshot_roundTrip() throws Exception {
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        entries.add(Income.ofCents("Salary", 100000, "no date"));
+        storage.saveLedger(entries);
+        storage.appendEntry(2, "Expense: Bus $1.50 {Transport} [2023-10-16]");
+
+        assertTrue(Files.exists(directory.resolve("mt.dat")), "Binary snapshot should be created");
+        List<Entry> loadedData = newStorage().openLedger().load();
+        assertEquals(3, loadedData.size());
+        assertEquals("Expense: Lunch $12.50 {Food} [2023-10-15]", loadedData.get(0).toString());
+        assertEquals("Income: Salary $1000.00 [no date]", loadedData.get(1).toString());
+        assertEquals("Expense: Bus $1.50 {Transport} [2023-10-16]", loadedData.get(2).toString());
+    }
+
+    /**
+     * Tests that a text file saved by an older version is loaded, then replaced
+     * by the binary snapshot on the next full save and kept as mt.txt.bak.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void saveLedger_afterTextFile_keepsTextFileAsBackup() throws Exception {
+        List<String> testData = List.of("Expense: Lunch $12.50 {Food} [2023-10-15]");
+        Files.write(directory.resolve("mt.txt"), testData);
+
+        List<Entry> loadedData = storage.openLedger().load();
+        storage.saveLedger(loadedData);
+
+        assertFalse(Files.exists(directory.resolve("mt.txt")), "Text file should be replaced");
+        assertEquals(testData, Files.readAllLines(directory.resolve("mt.txt.bak")));
+        assertEquals(testData, toStrings(newStorage().openLedger().load()));
+    }
+
+    /**
+     * Tests that opening a binary snapshot counts its entries, including journaled changes,
+     * before the entries themselves are read.
+     *
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void openLedger_binarySnapshot_countsBeforeLoading() throws Exception {
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(Expense.ofCents("Lunch", 1250, "Food", "2023-10-15"));
+        entries.add(Income.ofCents("Salary", 100000, "no date"));
+        storage.saveLedger(entries);
+        storage.appendEntry(2, "Expense: Bus $1.50 {Transport} [2023-10-16]");
+        storage.removeEntry(0);
+        storage.removeEntry(7);
+
+        LazyLedger ledger = newStorage().openLedger();
+        assertEquals(2, ledger.size());
+        assertFalse(ledger.isLoaded());
+
+        List<Entry> loadedData = ledger.load();
+        assertEquals(2, loadedData.size());
+        assertEquals("Income: Salary $1000.00 [no date]", loadedData.get(0).toString());
+        assertEquals("Expense: Bus $1.50 {Transport} [2023-10-16]", loadedData.get(1).toString());
+    }
+
+    /**
+     * Tests that appended budgets replace earlier lines for the same category on load,
+     * including categories with spaces and the overall budget.
+     *
+     * @param tempDir Directory holding the budget file
+     * @throws Exception If any unexpected error occurs during test execution
+     */
+    @Test
+    void appendBudgets_laterLinesWin(@TempDir Path tempDir) throws Exception {
+        Storage budgetStorage = new Storage(tempDir.toFile(), true);
+        HashMap<String, Budget> budgets = new HashMap<>();
+        budgets.put("food", Budget.ofCents("food", 10000));
+        budgetStorage.saveBudgets(budgets);
+        budgetStorage.appendBudgets(List.of(Budget.ofCents("Fast Food", 2500), Budget.ofCents("Overall", 90000)));
+        budgetStorage.appendBudgets(List.of(Budget.ofCents("food", 12000)));
+
+        HashMap<String, Budget> loaded = new Storage(tempDir.toFile(), true).loadBudgets();
+        assertEquals(3, loaded.size());
+        assertEquals(12000, loaded.get("food").getAmountCents());
+        assertEquals(2500, loaded.get("fast food").getAmountCents());
+        assertEquals(90000, loaded.get(Budget.OVERALL).getAmountCents());
+        assertFalse(budgetStorage.isBudgetCompactionDue(loaded.size()));
+
+        for (int i = 0; i < 64; i++) {
+            budgetStorage.appendBudgets(List.of(Budget.ofCents("food", i)));
+        }
+        assertTrue(budgetStorage.isBudgetCompactionDue(loaded.size()));
+    }
+
+    private Storage newStorage() {
+        return new Storage(directory.toFile(), true);
+    }
+
+    private static List<String> toStrings(List<Entry> entries) {
+        List<String> strings = new ArrayList<>();
+        for (Entry entry : entries) {
+            strings.add(entry.toString());
         }
+        return strings;
     }
 }
@@ -0,0 +1,111 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for TextLedgerReader.
+ * Checks that entries are parsed from bytes as Entry.parseString would, whether the file is read or mapped.
+ */
+public class TextLedgerReaderTest {
+    private static final List<String> LINES = List.of(
+            "Expense: Lunch $12.50 {Food} [2023-10-15]",
+            "Income: Salary $1000.00 [no date]",
+            "not an entry",
+            "Expense: Café crème $4.8 {Food & Drinks} [tomorrow]",
+            "Expense: Broken $abc {Food} [no date]",
+            "Income: Refund $-3.456 [2023-10-16]");
+
+    @Test
+    void testRead_matchesParseString(@TempDir Path tempDir) throws IOException, MTException {
+        Path file = tempDir.resolve("mt.txt");
+        Files.writeString(file, String.join("\r\n", LINES) + "\r\n", StandardCharsets.UTF_8);
+        ArrayList<String> skipped = new ArrayList<>();
+
+        TextLedgerReader reader = new TextLedgerReader(skipped::add);
+        ArrayList<Entry> entries = reader.read(file);
+
+        assertEquals(expectedEntries(), toStrings(entries));
+        assertEquals(2, reader.getSkippedCount());
+        assertEquals(List.of("not an entry", "Expense: Broken $abc {Food} [no date]"), skipped);
+    }
+
+    @Test
+    void testRead_mappedInSmallWindows(@TempDir Path tempDir) throws IOException, MTException {
+        Path file = tempDir.resolve("mt.txt");
+        // No newline at the end of the last line
+        Files.writeString(file, String.join("\n", LINES), StandardCharsets.UTF_8);
+
+        TextLedgerReader reader = new TextLedgerReader(line -> { }, 0, 64, 64, ForkJoinPool.commonPool());
+        ArrayList<Entry> entries = reader.read(file);
+
+        assertEquals(expectedEntries(), toStrings(entries));
+        assertEquals(2, reader.getSkippedCount());
+    }
+
+    @Test
+    void testRead_lineLongerThanWindow(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("mt.txt");
+        Files.writeString(file, String.join("\n", LINES), StandardCharsets.UTF_8);
+
+        TextLedgerReader reader = new TextLedgerReader(line -> { }, 0, 16, 16, ForkJoinPool.commonPool());
+
+        assertThrows(IOException.class, () -> reader.read(file));
+    }
+
+    @Test
+    void testRead_parallelChunksKeepFileOrder(@TempDir Path tempDir) throws IOException, MTException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.addAll(LINES);
+        }
+        Path file = tempDir.resolve("mt.txt");
+        Files.writeString(file, String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+        List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        TextLedgerReader reader = new TextLedgerReader(skipped::add, Long.MAX_VALUE, Long.MAX_VALUE, 100, pool);
+        ArrayList<Entry> entries = reader.read(file);
+        pool.shutdown();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.addAll(expectedEntries());
+        }
+        assertEquals(expected, toStrings(entries));
+        assertEquals(1000, reader.getSkippedCount());
+        assertEquals(1000, skipped.size());
+    }
+
+    private static List<String> expectedEntries() throws MTException {
+        List<String> expected = new ArrayList<>();
+        for (String line : LINES) {
+            try {
+                expected.add(Entry.parseString(line).toString());
+            } catch (MTException e) {
+                // Skipped by the reader as well
+            }
+        }
+        return expected;
+    }
+
+    private static List<String> toStrings(List<Entry> entries) {
+        List<String> strings = new ArrayList<>();
+        for (Entry entry : entries) {
+            strings.add(entry.toString());
+        }
+        return strings;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -200,4 +201,46 @@ public class TextUITest {
 
         System.setOut(System.out);
     }
+
+    /**
+     * Tests that buffered output is only written when flushed.
+     */
+    @Test
+    void print_bufferedMode_writesOnFlush() {
+        TextUI textUI = new TextUI(true, 0);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+
+        textUI.print("first");
+        textUI.print("second");
+        assertEquals("", outputStream.toString(), "Nothing should be written before flushing");
+
+        textUI.flush();
+        assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(),
+                outputStream.toString(), "Flushing should write all buffered lines in order");
+
+        System.setOut(System.out);
+    }
+
+    /**
+     * Tests that only the most recent messages are captured, and none by default.
+     */
+    @Test
+    void getPrintedMessages_keepsMostRecentUpToCapacity() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+
+        TextUI capturingUi = new TextUI(2);
+        capturingUi.print("one");
+        capturingUi.print("two");
+        capturingUi.print("three");
+        assertEquals(List.of("two", "three"), capturingUi.getPrintedMessages());
+
+        TextUI defaultUi = new TextUI();
+        defaultUi.print("one");
+        assertTrue(defaultUi.getPrintedMessages().isEmpty(), "Messages should not be kept by default");
+
+        System.setOut(System.out);
+    }
 }
@@ -3,9 +3,11 @@ package seedu.duke;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -26,14 +28,14 @@ class TotalExpenseCommandTest {
      * and initializes a new MoneyList instance with its dependencies.
      */
     @BeforeEach
-    void setUp() {
+    void setUp(@TempDir Path tempDir) {
         // Redirect System.out to capture printed output for testing
         System.setOut(new PrintStream(outContent));
 
         // Initialize MoneyList with dependencies
         moneyList = new MoneyList(
                 new MTLogger(TotalExpenseCommandTest.class.getName()), // Logger instance
-                new Storage(), // Storage instance
+                new Storage(tempDir.toFile(), true), // Storage instance
                 new TextUI() // TextUI instance
         );
     }
@@ -0,0 +1,110 @@
+package seedu.duke;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for WriteBehindSaver.
+ * Checks that saves submitted during a write are coalesced and that failures are reported once,
+ * on the next submission or on close.
+ */
+public class WriteBehindSaverTest {
+    private static final MTLogger LOGGER = new MTLogger(WriteBehindSaverTest.class.getName());
+
+    @Test
+    void testSubmitLedger_coalescesSavesDuringWrite(@TempDir Path tempDir) throws Exception {
+        BlockingStorage storage = new BlockingStorage(tempDir.toFile());
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LOGGER);
+
+        saver.submitLedger(List.of(Expense.ofCents("First", 100, "Food", "no date")));
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            saver.submitLedger(List.of(Expense.ofCents("Entry " + i, 100, "Food", "no date")));
+        }
+        storage.release.countDown();
+        saver.close();
+
+        assertEquals(2, saver.getLedgerWriteCount());
+        assertEquals("Entry 5", storage.lastSaved.get(0).getDescription());
+    }
+
+    @Test
+    void testClose_reportsFailedSave(@TempDir Path tempDir) throws MTException {
+        Storage storage = new Storage(tempDir.toFile(), true) {
+            @Override
+            public void saveLedger(List<? extends Entry> entries) throws MTException {
+                throw new MTException("Error saving entries: disk full");
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LOGGER);
+
+        saver.submitLedger(List.of());
+        MTException error = assertThrows(MTException.class, saver::close);
+        assertEquals("Error saving entries: disk full", error.getMessage());
+    }
+
+    @Test
+    void testSubmit_reportsEarlierFailedSave(@TempDir Path tempDir) throws Exception {
+        CountDownLatch journalCommitted = new CountDownLatch(1);
+        BlockingStorage storage = new BlockingStorage(tempDir.toFile()) {
+            @Override
+            public void saveLedger(List<? extends Entry> entries) throws MTException {
+                super.saveLedger(entries);
+                throw new MTException("Error saving entries: disk full");
+            }
+
+            @Override
+            public void commitJournal(List<String> records) {
+                journalCommitted.countDown();
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LOGGER);
+
+        saver.submitLedger(List.of());
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+        saver.submitJournalRecord(Storage.removeRecord(0));
+        storage.release.countDown();
+        // The record is only written once the failed save has been recorded
+        assertTrue(journalCommitted.await(5, TimeUnit.SECONDS));
+
+        MTException error = assertThrows(MTException.class,
+                () -> saver.submitJournalRecord(Storage.removeRecord(0)));
+        assertEquals("Error saving entries: disk full", error.getMessage());
+        assertDoesNotThrow(saver::close);
+    }
+
+    /**
+     * Storage stub whose first save waits until the test releases it.
+     */
+    private static class BlockingStorage extends Storage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile List<? extends Entry> lastSaved;
+
+        BlockingStorage(File directory) {
+            super(directory, true);
+        }
+
+        @Override
+        public void saveLedger(List<? extends Entry> entries) throws MTException {
+            saveStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lastSaved = entries;
+        }
+    }
+}